@@ -0,0 +1,59 @@
+package client.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import client.benchmark.util.SyntheticMapGenerator;
+import client.map.GameMap;
+import client.map.Path;
+import client.map.PositionArea;
+import client.search.AStarPathFinder;
+import client.search.IndexedAStarPathFinder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AStarPathFinderBenchmark {
+
+    private static final long SEED = 0xDEAD_FACADEL;
+
+    @Param({"20x5", "10x10", "100x100", "300x300"})
+    private String dimensions;
+
+    private GameMap map;
+    private PositionArea area;
+
+    @Setup
+    public void setUp() {
+        String[] sizes = dimensions.split("x");
+        int width = Integer.parseInt(sizes[0]);
+        int height = Integer.parseInt(sizes[1]);
+
+        map = new SyntheticMapGenerator(SEED).generate(width, height);
+        area = map.getArea();
+    }
+
+    @Benchmark
+    public Path findPathAcrossMap() {
+        return new AStarPathFinder(map).findPath(area.upperLeft(), area.lowerRight());
+    }
+
+    @Benchmark
+    public Path indexedFindPathAcrossMap() {
+        return new IndexedAStarPathFinder(map).findPath(area.upperLeft(), area.lowerRight());
+    }
+}
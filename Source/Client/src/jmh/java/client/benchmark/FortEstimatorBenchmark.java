@@ -0,0 +1,95 @@
+package client.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import client.generation.MapGenerator;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.player.Player;
+import client.player.PlayerDetails;
+import client.player.PlayerGameState;
+import client.search.FortEstimator;
+import client.validation.HalfMapValidator;
+
+/**
+ * Measures how long the {@link FortEstimator} takes to estimate the enemy's fort on a seeded
+ * valid half map, after the enemy has been seen walking a seeded random path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FortEstimatorBenchmark {
+
+    private static final long SEED = 0xDEAD_FACADEL;
+    private static final int SEEN_STEP_COUNT = 3;
+
+    private static final String ENEMY_ID = "enemy";
+    private static final PlayerDetails ENEMY_DETAILS = new PlayerDetails("Enemy", "Ymeny",
+                                                                         ENEMY_ID);
+
+    @Param({"8", "16", "24"})
+    private int currentTurn;
+
+    private FortEstimator fortEstimator;
+
+    /**
+     * Lets the enemy walk from its fort to random accessible neighbors, never stepping back.
+     */
+    private static Player walkEnemy(GameMap map, Random random) {
+        Position position = map.getPlayerFortPosition().orElseThrow();
+        Player enemy = new Player(ENEMY_ID, ENEMY_DETAILS, PlayerGameState.MUST_ACT, position,
+                                  false);
+
+        for (int step = 0; step < SEEN_STEP_COUNT; ++step) {
+            List<Position> history = enemy.getPositionHistory();
+            List<Position> nextPositions = Arrays.stream(MapDirection.values())
+                    .map(position::stepInDirection)
+                    .filter(next -> map.getNodeAt(next).filter(GameMapNode::isAccessible).isPresent())
+                    .filter(next -> !history.contains(next))
+                    .toList();
+
+            if (nextPositions.isEmpty()) {
+                break;
+            }
+
+            position = nextPositions.get(random.nextInt(nextPositions.size()));
+            enemy.appendPosition(position);
+        }
+
+        return enemy;
+    }
+
+    @Setup
+    public void setUp() {
+        GameMap map = new MapGenerator(SEED).generateUntilValid(new HalfMapValidator());
+        Player enemy = walkEnemy(map, new Random(SEED));
+
+        fortEstimator = new FortEstimator(map, enemy);
+    }
+
+    @Benchmark
+    public Collection<Position> getPossiblePositions() {
+        return fortEstimator.getPossiblePositions(currentTurn);
+    }
+}
@@ -0,0 +1,306 @@
+package client.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import client.benchmark.util.SyntheticMapGenerator;
+import client.map.AdjacencyGraph;
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.map.TerrainType;
+import client.map.TreasureState;
+import messagesbase.messagesfromserver.EFortState;
+import messagesbase.messagesfromserver.EPlayerPositionState;
+import messagesbase.messagesfromserver.ETreasureState;
+import messagesbase.messagesfromserver.FullMap;
+import messagesbase.messagesfromserver.FullMapNode;
+
+/**
+ * Compares neighbor traversal on the grid storage of {@link GameMap} against the previously
+ * used {@code HashMap<Position, GameMapNode>} storage, and node scans against bitboard queries.
+ * Also measures the map's other hot paths: updating, converting from the server's full map and
+ * rendering.
+ * <p>
+ * The updates run on a fresh copy of the map and of a seeded next server map for every
+ * invocation, as an update leaves nothing to change for the following one. The copies are
+ * made outside of the measurement, which JMH only advises against for sub-microsecond
+ * benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameMapBenchmark {
+
+    private static final long SEED = 0xDEAD_FACADEL;
+
+    private static final MapDirection[] DIRECTIONS = MapDirection.values();
+
+    // Full map (100 nodes) and large synthetic maps
+    @Param({"20x5", "300x300", "1000x1000"})
+    private String dimensions;
+
+    private GameMap map;
+    private Map<Position, GameMapNode> hashedNodes;
+    private FullMap fullMap;
+    private GameMap nextServerMap;
+    private Position viewpointPosition;
+    private Predicate<Position> isPlayerHalf;
+
+    /**
+     * A fresh copy of the map and of the next map sent by the server for every invocation, as
+     * an update changes both of them (the map's nodes and the nodes it takes over).
+     */
+    @State(Scope.Thread)
+    public static class UpdateState {
+
+        private GameMap fullTargetMap;
+        private GameMap halfTargetMap;
+        private GameMap serverMap;
+
+        @Setup(Level.Invocation)
+        public void setUp(GameMapBenchmark benchmark) {
+            fullTargetMap = copyOf(benchmark.map, position -> true);
+            halfTargetMap = copyOf(benchmark.map, benchmark.isPlayerHalf);
+            serverMap = copyOf(benchmark.nextServerMap, position -> true);
+
+            // Fill the caches, which growing the map has to clear
+            halfTargetMap.getPlayerHalfMapView();
+            halfTargetMap.getEnemyHalfMapView();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        String[] sizes = dimensions.split("x");
+        int width = Integer.parseInt(sizes[0]);
+        int height = Integer.parseInt(sizes[1]);
+
+        map = new SyntheticMapGenerator(SEED).generate(width, height);
+        hashedNodes = map.getMapNodes().stream().collect(GameMap.mapCollector);
+        fullMap = new FullMap(map.getMapNodes().stream()
+                                      .map(GameMapBenchmark::intoFullMapNode)
+                                      .toList());
+        isPlayerHalf = position -> position.x() < width / 2;
+        viewpointPosition = pickViewpointPosition(new Random(SEED));
+        nextServerMap = generateNextServerMap(new Random(SEED));
+    }
+
+    private static GameMap copyOf(GameMap map, Predicate<Position> isIncluded) {
+        return new GameMap(map.getMapNodes().stream()
+                                   .filter(mapNode -> isIncluded.test(mapNode.getPosition()))
+                                   .map(GameMapNode::new));
+    }
+
+    /**
+     * Picks a mountain on the player's half, whose whole sight is on the player's half too, as
+     * a mountain reveals its neighborhood instead of only itself. The treasure and the enemy's
+     * fort are placed in its sight, so it has to see at least two other accessible map nodes.
+     */
+    private Position pickViewpointPosition(Random random) {
+        List<Position> mountainPositions = map.getMapNodes().stream()
+                .filter(mapNode -> mapNode.getTerrainType() == TerrainType.MOUNTAIN)
+                .map(GameMapNode::getPosition)
+                .filter(position -> map.getPositionsInSight(position).stream()
+                        .allMatch(isPlayerHalf))
+                .filter(position -> map.getPositionsInSight(position).stream()
+                        .filter(inSight -> map.getNodeAt(inSight).orElseThrow().isAccessible())
+                        .count() > 2)
+                .toList();
+
+        return mountainPositions.get(random.nextInt(mountainPositions.size()));
+    }
+
+    /**
+     * Generates the map the server sends after the player reached the viewpoint: the fog is
+     * lifted on a seeded part of the map nodes, and the player's treasure and the enemy's fort
+     * are placed on two seeded map nodes in sight of the viewpoint.
+     */
+    private GameMap generateNextServerMap(Random random) {
+        Set<Position> sightPositions = Set.copyOf(map.getPositionsInSight(viewpointPosition));
+        List<Position> revealedPositions = sightPositions.stream()
+                .filter(position -> !position.equals(viewpointPosition))
+                .filter(position -> map.getNodeAt(position).orElseThrow().isAccessible())
+                .sorted()
+                .toList();
+        Position treasurePosition = revealedPositions.get(
+                random.nextInt(revealedPositions.size()));
+        Position enemyFortPosition = revealedPositions.stream()
+                .filter(position -> !position.equals(treasurePosition))
+                .findFirst()
+                .orElse(viewpointPosition);
+
+        return new GameMap(map.getMapNodes().stream().map(mapNode -> {
+            Position position = mapNode.getPosition();
+            boolean isRevealed = sightPositions.contains(position) || random.nextBoolean();
+
+            if (mapNode.hasPlayerFort() || !isRevealed) {
+                return new GameMapNode(mapNode);
+            }
+
+            FortState fortState = position.equals(enemyFortPosition)
+                    ? FortState.ENEMY_FORT_PRESENT
+                    : FortState.NO_FORT_PRESENT;
+            TreasureState treasureState = position.equals(treasurePosition)
+                    ? TreasureState.PLAYER_TREASURE_PRESENT
+                    : TreasureState.NO_TREASURE_PRESENT;
+
+            return new GameMapNode(position, mapNode.getTerrainType(), fortState, treasureState);
+        }));
+    }
+
+    /**
+     * Converts the map node into the server's representation, as if it was sent by the server.
+     */
+    private static FullMapNode intoFullMapNode(GameMapNode mapNode) {
+        EFortState fortState = mapNode.hasPlayerFort()
+                ? EFortState.MyFortPresent
+                : EFortState.NoOrUnknownFortState;
+
+        return new FullMapNode(mapNode.getTerrainType().intoETerrain(),
+                               EPlayerPositionState.NoPlayerPresent,
+                               ETreasureState.NoOrUnknownTreasureState,
+                               fortState,
+                               mapNode.getPosition().x(),
+                               mapNode.getPosition().y());
+    }
+
+    @Benchmark
+    public int hashedReachableNeighbors() {
+        int reachableCount = 0;
+
+        for (GameMapNode mapNode : hashedNodes.values()) {
+            for (MapDirection direction : DIRECTIONS) {
+                GameMapNode neighbor = hashedNodes.get(mapNode.getPosition().stepInDirection(direction));
+
+                if (neighbor != null && neighbor.isAccessible()) {
+                    ++reachableCount;
+                }
+            }
+        }
+
+        return reachableCount;
+    }
+
+    @Benchmark
+    public int gridReachableNeighbors() {
+        int reachableCount = 0;
+
+        for (int index = 0; index < map.getIndexBound(); ++index) {
+            for (MapDirection direction : DIRECTIONS) {
+                if (map.getReachableNeighborIndex(index, direction) != -1) {
+                    ++reachableCount;
+                }
+            }
+        }
+
+        return reachableCount;
+    }
+
+    @Benchmark
+    public int graphReachableNeighbors() {
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        int reachableCount = 0;
+
+        for (int index = 0; index < graph.getIndexBound(); ++index) {
+            for (int edge = graph.getFirstEdge(index); edge < graph.getLastEdge(index); ++edge) {
+                if (graph.getNeighbor(edge) != -1) {
+                    ++reachableCount;
+                }
+            }
+        }
+
+        return reachableCount;
+    }
+
+    @Benchmark
+    public int hashedNodeLookup() {
+        int accessibleCount = 0;
+
+        for (Position position : hashedNodes.keySet()) {
+            if (hashedNodes.get(position).isAccessible()) {
+                ++accessibleCount;
+            }
+        }
+
+        return accessibleCount;
+    }
+
+    @Benchmark
+    public int gridNodeLookup() {
+        int accessibleCount = 0;
+
+        for (GameMapNode mapNode : map.getMapNodes()) {
+            if (map.getNodeAtIndex(map.indexOf(mapNode.getPosition())).isAccessible()) {
+                ++accessibleCount;
+            }
+        }
+
+        return accessibleCount;
+    }
+
+    @Benchmark
+    public boolean scanForTreasure() {
+        return map.anyMapNodeMatch(GameMapNode::hasTreasure);
+    }
+
+    @Benchmark
+    public boolean bitboardForTreasure() {
+        return map.anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT);
+    }
+
+    /**
+     * Updates the map with the next map sent by the server, which reveals the map nodes in sight
+     * of the viewpoint, i.e. the path taken on every turn.
+     */
+    @Benchmark
+    public GameMap update(UpdateState state) {
+        state.fullTargetMap.update(state.serverMap, viewpointPosition);
+
+        return state.fullTargetMap;
+    }
+
+    /**
+     * Updates the player's half map with the next map sent by the server, which additionally
+     * adds the enemy's half, i.e. the path taken once when the full map arrives.
+     */
+    @Benchmark
+    public GameMap updateWithEnemyHalf(UpdateState state) {
+        state.halfTargetMap.update(state.serverMap, viewpointPosition);
+
+        return state.halfTargetMap;
+    }
+
+    @Benchmark
+    public GameMap fromFullMap() {
+        return GameMap.fromFullMap(fullMap);
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return map.renderToString(Optional.of(Position.originPosition), Optional.empty());
+    }
+}
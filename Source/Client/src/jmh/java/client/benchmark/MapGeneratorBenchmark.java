@@ -0,0 +1,159 @@
+package client.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import client.generation.ConstructiveMapGenerator;
+import client.generation.MapGenerationReport;
+import client.generation.MapGenerator;
+import client.generation.RepairingMapGenerator;
+import client.map.GameMap;
+import client.validation.BatchHalfMapValidator;
+import client.validation.BatchValidationReport;
+import client.validation.BitboardHalfMapValidator;
+import client.validation.HalfMapBitboard;
+import client.validation.HalfMapValidator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapGeneratorBenchmark {
+
+    private static final long SEED = 0xDEAD_FACADEL;
+    private static final int CANDIDATE_COUNT = 1000;
+
+    private final HalfMapValidator validator = new HalfMapValidator();
+    private final BitboardHalfMapValidator bitboardValidator = new BitboardHalfMapValidator();
+    private final BatchHalfMapValidator batchValidator = new BatchHalfMapValidator();
+
+    private MapGenerator mapGenerator;
+    private ConstructiveMapGenerator constructiveMapGenerator;
+    private RepairingMapGenerator repairingMapGenerator;
+
+    private List<HalfMapBitboard> candidates;
+    private List<GameMap> candidateMaps;
+
+    /**
+     * Counts the generated half maps, such that JMH reports the attempts per valid half map
+     * next to the latency.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Attempts {
+
+        public long attempts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            attempts = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        mapGenerator = new MapGenerator(SEED);
+        constructiveMapGenerator = new ConstructiveMapGenerator(SEED);
+        repairingMapGenerator = new RepairingMapGenerator(SEED);
+
+        MapGenerator candidateGenerator = new MapGenerator(SEED);
+        candidates = Stream.generate(candidateGenerator::generateCandidate)
+                .limit(CANDIDATE_COUNT)
+                .toList();
+        candidateMaps = candidates.stream()
+                .map(HalfMapBitboard::intoMap)
+                .toList();
+    }
+
+    private GameMap generateUntilValid(Supplier<GameMap> generator, Attempts attempts) {
+        GameMap map;
+
+        do {
+            ++attempts.attempts;
+            map = generator.get();
+        } while (!validator.isValid(map));
+
+        return map;
+    }
+
+    @Benchmark
+    public GameMap rejectionSampling(Attempts attempts) {
+        return generateUntilValid(mapGenerator::generateMap, attempts);
+    }
+
+    @Benchmark
+    public GameMap generateUntilValid() {
+        return mapGenerator.generateUntilValid(validator);
+    }
+
+    @Benchmark
+    public GameMap constructive(Attempts attempts) {
+        return generateUntilValid(constructiveMapGenerator::generateMap, attempts);
+    }
+
+    @Benchmark
+    public GameMap repairing(Attempts attempts) {
+        MapGenerationReport report = repairingMapGenerator.generateUntilValid(validator);
+        attempts.attempts += report.getTotalTries();
+
+        return report.map();
+    }
+
+    @Benchmark
+    public GameMap bitboardScreening(Attempts attempts) {
+        HalfMapBitboard candidate;
+
+        do {
+            ++attempts.attempts;
+            candidate = mapGenerator.generateCandidate();
+        } while (!bitboardValidator.isValid(candidate));
+
+        return candidate.intoMap();
+    }
+
+    /**
+     * Generates and checks a single candidate on its bitboards, whose inverse is the amount of
+     * candidates a generator can screen per microsecond.
+     */
+    @Benchmark
+    public boolean screenCandidate() {
+        return bitboardValidator.isValid(mapGenerator.generateCandidate());
+    }
+
+    @Benchmark
+    public void validateCandidates(Blackhole blackhole) {
+        for (HalfMapBitboard candidate : candidates) {
+            blackhole.consume(bitboardValidator.isValid(candidate));
+        }
+    }
+
+    @Benchmark
+    public void validateMaps(Blackhole blackhole) {
+        for (GameMap map : candidateMaps) {
+            blackhole.consume(validator.isValid(map));
+        }
+    }
+
+    @Benchmark
+    public BatchValidationReport validateMapsInBatch() {
+        return batchValidator.validate(candidateMaps);
+    }
+}
@@ -0,0 +1,67 @@
+package client.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import client.benchmark.util.SyntheticMapGenerator;
+import client.map.GameMap;
+import client.map.Position;
+import client.search.DistanceOracle;
+import client.search.TreasureEstimate;
+import client.search.TreasureEstimator;
+
+/**
+ * Measures how long the {@link TreasureEstimator} takes to pick the destination, which reveals
+ * the treasure the fastest on average, among all accessible positions of a synthetic map.
+ * <p>
+ * The exact computation replaced an estimate, which was sampled within a time budget of 10 ms
+ * per turn, so it should stay well below that on the full map (20x5 or 10x10). As it grows
+ * with the number of destinations times the number of possible treasure positions, the larger
+ * maps show where it would exceed that budget.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreasureEstimatorBenchmark {
+
+    private static final long SEED = 0xDEAD_FACADEL;
+
+    // The distance oracle stores all pairs, so larger maps do not fit into memory
+    @Param({"20x5", "10x10", "40x20", "80x40"})
+    private String dimensions;
+
+    private GameMap map;
+    private Position source;
+    private TreasureEstimator estimator;
+
+    @Setup
+    public void setUp() {
+        String[] sizes = dimensions.split("x");
+        int width = Integer.parseInt(sizes[0]);
+        int height = Integer.parseInt(sizes[1]);
+
+        map = new SyntheticMapGenerator(SEED).generate(width, height);
+        source = map.getPlayerFortPosition().orElseThrow();
+        estimator = new TreasureEstimator(map, DistanceOracle.fromMap(map));
+    }
+
+    @Benchmark
+    public Optional<TreasureEstimate> estimateBestDestination() {
+        return estimator.estimateBestDestination(source, map);
+    }
+}
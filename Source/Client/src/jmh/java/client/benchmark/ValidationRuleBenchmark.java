@@ -0,0 +1,89 @@
+package client.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import client.generation.MapGenerator;
+import client.map.GameMap;
+import client.validation.GameMapBorderAccessibilityValidator;
+import client.validation.GameMapDimensionValidator;
+import client.validation.GameMapFortPlacementValidator;
+import client.validation.GameMapTerrainDistributionValidator;
+import client.validation.GameMapTerrainReachabilityValidator;
+import client.validation.GameMapTreasurePlacementValidator;
+import client.validation.GameMapValidationRule;
+import client.validation.Notification;
+
+/**
+ * Measures each {@link GameMapValidationRule} on its own, once with and once without building
+ * the messages, over the same seeded pool of valid and invalid half maps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationRuleBenchmark {
+
+    private static final long SEED = 0xDEAD_FACADEL;
+    private static final int MAP_COUNT = 100;
+
+    @Param({"dimension", "distribution", "border", "fort", "treasure", "reachability"})
+    private String ruleName;
+
+    private GameMapValidationRule rule;
+    private List<GameMap> maps;
+
+    private static GameMapValidationRule createRule(String ruleName) {
+        return switch (ruleName) {
+            case "dimension" -> new GameMapDimensionValidator();
+            case "distribution" -> new GameMapTerrainDistributionValidator();
+            case "border" -> new GameMapBorderAccessibilityValidator();
+            case "fort" -> new GameMapFortPlacementValidator();
+            case "treasure" -> new GameMapTreasurePlacementValidator();
+            case "reachability" -> new GameMapTerrainReachabilityValidator();
+            default -> throw new IllegalArgumentException("Unknown rule " + ruleName);
+        };
+    }
+
+    @Setup
+    public void setUp() {
+        MapGenerator mapGenerator = new MapGenerator(SEED);
+
+        rule = createRule(ruleName);
+        maps = Stream.generate(mapGenerator::generateMap)
+                .limit(MAP_COUNT)
+                .toList();
+    }
+
+    @Benchmark
+    public void isSatisfiedBy(Blackhole blackhole) {
+        for (GameMap map : maps) {
+            blackhole.consume(rule.isSatisfiedBy(map));
+        }
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        for (GameMap map : maps) {
+            Notification<GameMapValidationRule> note = new Notification<>();
+            rule.validate(map, note);
+            blackhole.consume(note);
+        }
+    }
+}
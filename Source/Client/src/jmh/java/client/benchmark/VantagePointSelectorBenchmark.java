@@ -0,0 +1,68 @@
+package client.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import client.benchmark.util.SyntheticMapGenerator;
+import client.map.GameMap;
+import client.map.Position;
+import client.search.DistanceOracle;
+import client.search.VantagePointSelector;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VantagePointSelectorBenchmark {
+
+    private static final long SEED = 0xDEAD_FACADEL;
+
+    // The distance oracle stores all pairs, so larger maps do not fit into memory
+    @Param({"20x10", "40x20"})
+    private String dimensions;
+
+    private GameMap map;
+    private Position source;
+    private VantagePointSelector selector;
+
+    @Setup
+    public void setUp() {
+        String[] sizes = dimensions.split("x");
+        int width = Integer.parseInt(sizes[0]);
+        int height = Integer.parseInt(sizes[1]);
+
+        map = new SyntheticMapGenerator(SEED).generate(width, height);
+        source = map.getArea().upperLeft();
+        selector = new VantagePointSelector(map, DistanceOracle.fromMap(map));
+    }
+
+    @Benchmark
+    public Optional<Position> selectNextVantagePosition() {
+        return selector.selectNextVantagePosition(source, map);
+    }
+
+    @Benchmark
+    public List<Position> selectVantagePositions() {
+        return selector.selectVantagePositions(source, map);
+    }
+
+    @Benchmark
+    public Optional<Position> sortUnvisitedDeadEnds() {
+        return map.getRandomUnvisitedDeadEndPosition();
+    }
+}
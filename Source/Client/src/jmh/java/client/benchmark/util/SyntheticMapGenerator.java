@@ -0,0 +1,62 @@
+package client.benchmark.util;
+
+import java.util.Random;
+
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.PositionArea;
+import client.map.TerrainType;
+
+/**
+ * Generates seeded, reproducible {@link GameMap}s of arbitrary size for benchmarking purposes.
+ * <p>
+ * Water is only placed on inner fields with odd coordinates on both axes, so that every
+ * accessible field stays reachable from every other one regardless of the seed.
+ */
+public class SyntheticMapGenerator {
+
+    private static final int MOUNTAIN_PERCENTAGE = 20;
+    private static final int WATER_PERCENTAGE = 40;
+
+    private final Random random;
+
+    public SyntheticMapGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    private TerrainType pickTerrainType(PositionArea area, int x, int y) {
+        boolean isInner = x < area.width() - 1 && y < area.height() - 1;
+        boolean mayBeWater = isInner && x % 2 == 1 && y % 2 == 1;
+
+        if (mayBeWater && random.nextInt(100) < WATER_PERCENTAGE) {
+            return TerrainType.WATER;
+        }
+
+        if (random.nextInt(100) < MOUNTAIN_PERCENTAGE) {
+            return TerrainType.MOUNTAIN;
+        }
+
+        return TerrainType.GRASS;
+    }
+
+    /**
+     * Generates a map covering the area from the origin to {@code (width - 1, height - 1)} with
+     * the player's fort placed on the origin.
+     *
+     * @param width the width of the map
+     * @param height the height of the map
+     * @return the generated map
+     */
+    public GameMap generate(int width, int height) {
+        PositionArea area = new PositionArea(0, 0, width, height);
+
+        return new GameMap(area.intoStream().map(position -> {
+            if (position.x() == 0 && position.y() == 0) {
+                return new GameMapNode(position, TerrainType.GRASS, FortState.PLAYER_FORT_PRESENT);
+            }
+
+            return new GameMapNode(position, pickTerrainType(area, position.x(), position.y()));
+        }));
+    }
+}
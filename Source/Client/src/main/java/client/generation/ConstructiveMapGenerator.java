@@ -0,0 +1,167 @@
+package client.generation;
+
+import static client.generation.HalfMapGrid.HALF_MAP_SIZE;
+import static client.generation.HalfMapGrid.HALF_MAP_X_SIZE;
+import static client.generation.HalfMapGrid.HALF_MAP_Y_SIZE;
+import static client.generation.HalfMapGrid.positionOf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.map.TerrainType;
+import client.validation.HalfMapValidator;
+import client.validation.IncrementalHalfMapValidator;
+
+/**
+ * Generates half maps that are valid by construction, instead of relying on rejection sampling
+ * like the {@link MapGenerator}.
+ * <p>
+ * Starting from the fort structure of the {@link FortGenerator} with every other field being
+ * accessible, water is placed one field at a time, but only where the
+ * {@link IncrementalHalfMapValidator} reports that all accessible fields stay connected and every
+ * border stays accessible enough. Mountains and grass are distributed over the remaining fields,
+ * as they do not affect the validity of the half map.
+ */
+public class ConstructiveMapGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConstructiveMapGenerator.class);
+
+    private static final int X_FORT_BORDER_SIZE = 2;
+    private static final int Y_FORT_BORDER_SIZE = 2;
+
+    private final Random random;
+    private final FortGenerator fortGenerator;
+    private final TerrainDistributionGenerator terrainGenerator;
+
+    private ConstructiveMapGenerator(Random random) {
+        this.random = random;
+        this.fortGenerator = new FortGenerator();
+        this.terrainGenerator = new TerrainDistributionGenerator();
+    }
+
+    public ConstructiveMapGenerator() {
+        this(new Random());
+    }
+
+    public ConstructiveMapGenerator(long seed) {
+        this(new Random(seed));
+    }
+
+    /**
+     * Places water on the field at {@code position}, unless it would leave some accessible
+     * field unreachable or a border without enough accessible fields.
+     *
+     * @return whether the water was placed
+     */
+    private static boolean tryPlaceWater(IncrementalHalfMapValidator validator,
+                                         Position position) {
+        TerrainType terrainType = validator.getTerrainTypeAt(position);
+        validator.changeTerrain(position, TerrainType.WATER);
+
+        if (validator.countViolations() > 0) {
+            validator.changeTerrain(position, terrainType);
+            return false;
+        }
+
+        return true;
+    }
+
+    private Position pickFortPosition() {
+        int x = random.nextInt(X_FORT_BORDER_SIZE, HALF_MAP_X_SIZE - X_FORT_BORDER_SIZE);
+        int y = random.nextInt(Y_FORT_BORDER_SIZE, HALF_MAP_Y_SIZE - Y_FORT_BORDER_SIZE);
+
+        return new Position(x, y);
+    }
+
+    /**
+     * Generates a half map, which is valid by construction.
+     *
+     * @return the generated half map
+     */
+    public GameMap generateMap() {
+        Position fortPosition = pickFortPosition();
+        MapDirection fortEntranceDirection = MapDirection.randomDirection(random);
+        Map<Position, GameMapNode> fortStructureNodes = fortGenerator
+                .generateFortStructure(fortPosition, fortEntranceDirection);
+
+        List<Position> freePositions = new ArrayList<>();
+        List<GameMapNode> mapNodes = new ArrayList<>(fortStructureNodes.values());
+        for (int index = 0; index < HALF_MAP_SIZE; ++index) {
+            Position position = positionOf(index);
+
+            if (!fortStructureNodes.containsKey(position)) {
+                freePositions.add(position);
+                mapNodes.add(new GameMapNode(position, TerrainType.GRASS));
+            }
+        }
+
+        List<TerrainType> terrainTypeQueue = terrainGenerator
+                .generateTerrainQueue(freePositions.size());
+        long waterCount = terrainTypeQueue.stream()
+                .filter(terrain -> terrain == TerrainType.WATER)
+                .count();
+        terrainTypeQueue.removeIf(terrain -> terrain == TerrainType.WATER);
+
+        // Place water first, where it keeps the map valid, and everything else after
+        IncrementalHalfMapValidator validator = new IncrementalHalfMapValidator(
+                new GameMap(mapNodes));
+        Collections.shuffle(freePositions, random);
+        Collections.shuffle(terrainTypeQueue, random);
+
+        mapNodes = new ArrayList<>(fortStructureNodes.values());
+        for (Position position : freePositions) {
+            TerrainType terrainType;
+
+            if (waterCount > 0 && tryPlaceWater(validator, position)) {
+                terrainType = TerrainType.WATER;
+                --waterCount;
+            } else {
+                terrainType = terrainTypeQueue.isEmpty()
+                        ? TerrainType.GRASS
+                        : terrainTypeQueue.removeLast();
+            }
+
+            mapNodes.add(new GameMapNode(position, terrainType));
+        }
+
+        return new GameMap(mapNodes);
+    }
+
+    /**
+     * Generates a half map like {@link #generateMap()}, but also validates it, which should
+     * always succeed on the first try and only acts as a safety net.
+     *
+     * @param validator the validator to check the generated half map with
+     * @return the generated valid half map
+     */
+    public GameMap generateUntilValid(HalfMapValidator validator) {
+        int generateTries = 0;
+        GameMap map;
+        boolean isValid;
+
+        do {
+            ++generateTries;
+            map = generateMap();
+            isValid = validator.isValid(map);
+
+            if (!isValid) {
+                logger.warn("The constructed half map violates the following rules:\n{}",
+                            validator.validate(map));
+            }
+        } while (!isValid);
+
+        logger.debug("It took {} tries to construct a valid GameMap instance.", generateTries);
+
+        return map;
+    }
+}
@@ -0,0 +1,21 @@
+package client.generation;
+
+import client.map.Position;
+
+/**
+ * The dimensions of the half map's grid, where each field is addressed by its row-major index,
+ * which generators can use to cheaply iterate over all fields.
+ */
+final class HalfMapGrid {
+
+    static final int HALF_MAP_X_SIZE = 10;
+    static final int HALF_MAP_Y_SIZE = 5;
+    static final int HALF_MAP_SIZE = HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE;
+
+    private HalfMapGrid() {
+    }
+
+    static Position positionOf(int index) {
+        return new Position(index % HALF_MAP_X_SIZE, index / HALF_MAP_X_SIZE);
+    }
+}
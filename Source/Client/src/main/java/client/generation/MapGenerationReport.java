@@ -0,0 +1,22 @@
+package client.generation;
+
+import java.time.Duration;
+import java.util.List;
+
+import client.map.GameMap;
+
+/**
+ * The outcome of a (parallel) half map generation.
+ *
+ * @param map the generated valid half map
+ * @param winningWorker the index of the worker which generated the half map
+ * @param triesPerWorker the number of generated half maps of each worker
+ * @param wallTime the time it took from starting until all workers finished
+ */
+public record MapGenerationReport(GameMap map, int winningWorker, List<Integer> triesPerWorker,
+                                  Duration wallTime) {
+
+    public int getTotalTries() {
+        return triesPerWorker.stream().mapToInt(Integer::intValue).sum();
+    }
+}
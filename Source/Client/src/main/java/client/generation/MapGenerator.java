@@ -17,9 +17,9 @@ import client.map.MapDirection;
 import client.map.Position;
 import client.map.PositionArea;
 import client.map.TerrainType;
-import client.validation.GameMapValidationRule;
+import client.validation.BitboardHalfMapValidator;
+import client.validation.HalfMapBitboard;
 import client.validation.HalfMapValidator;
-import client.validation.Notification;
 
 public class MapGenerator {
 
@@ -32,14 +32,35 @@ public class MapGenerator {
     private static final int X_FORT_BORDER_SIZE = 2;
     private static final int Y_FORT_BORDER_SIZE = 2;
 
+    private static final MapDirection[] DIRECTIONS = MapDirection.values();
+
+    /**
+     * The grid indices in the order {@link #generateMap()} assigns terrain to the positions,
+     * such that {@link #generateCandidate()} can produce the very same half maps.
+     */
+    private static final int[] POSITION_ORDER = generatePositionRange().stream()
+            .mapToInt(HalfMapBitboard::indexOf)
+            .toArray();
+
     private final Random random;
     private final FortGenerator fortGenerator;
     private final TerrainDistributionGenerator terrainGenerator;
+    private final BitboardHalfMapValidator bitboardValidator;
+
+    /**
+     * The fort structures for each fort position and entrance direction, encoded as bitboards,
+     * which are only built on first use.
+     */
+    private final HalfMapBitboard[][] fortStructures;
+    private TerrainType[] terrainTypeTemplate;
 
     private MapGenerator(Random random) {
         this.random = random;
         this.fortGenerator = new FortGenerator();
         this.terrainGenerator = new TerrainDistributionGenerator();
+        this.bitboardValidator = new BitboardHalfMapValidator();
+        this.fortStructures = new HalfMapBitboard[HALF_MAP_SIZE][DIRECTIONS.length];
+        this.terrainTypeTemplate = new TerrainType[0];
     }
 
     public MapGenerator() {
@@ -63,7 +84,12 @@ public class MapGenerator {
         return mapArea.intoStream().collect(Collectors.toSet());
     }
 
-    private GameMap generateMap() {
+    /**
+     * Generates a random half map, which may or may not be valid.
+     *
+     * @return the generated half map
+     */
+    public GameMap generateMap() {
         Map<Position, GameMapNode> mapNodes = HashMap.newHashMap(HALF_MAP_SIZE);
 
         Position fortPosition = pickFortPosition();
@@ -90,21 +116,106 @@ public class MapGenerator {
         return new GameMap(mapNodes.values());
     }
 
+    private HalfMapBitboard getFortStructure(Position fortPosition, MapDirection direction) {
+        int fortIndex = HalfMapBitboard.indexOf(fortPosition);
+        HalfMapBitboard fortStructure = fortStructures[fortIndex][direction.ordinal()];
+
+        if (fortStructure == null) {
+            GameMap fortStructureMap = new GameMap(
+                    fortGenerator.generateFortStructure(fortPosition, direction));
+
+            fortStructure = HalfMapBitboard.fromMap(fortStructureMap).orElseThrow();
+            fortStructures[fortIndex][direction.ordinal()] = fortStructure;
+        }
+
+        return fortStructure;
+    }
+
+    /**
+     * Generates the same random half map as {@link #generateMap()} would, but encoded as a
+     * {@link HalfMapBitboard} without creating any map nodes, such that many candidates can be
+     * checked by the {@link BitboardHalfMapValidator} cheaply.
+     *
+     * @return the generated half map as bitboard
+     */
+    public HalfMapBitboard generateCandidate() {
+        Position fortPosition = pickFortPosition();
+        MapDirection fortEntranceDirection = MapDirection.randomDirection(random);
+        HalfMapBitboard fortStructure = getFortStructure(fortPosition, fortEntranceDirection);
+
+        int remainingMapNodes = HALF_MAP_SIZE - Long.bitCount(fortStructure.fields());
+
+        if (terrainTypeTemplate.length != remainingMapNodes) {
+            terrainTypeTemplate = terrainGenerator.generateTerrainQueue(remainingMapNodes)
+                    .toArray(TerrainType[]::new);
+        }
+
+        TerrainType[] terrainTypeQueue = terrainTypeTemplate.clone();
+
+        // Shuffles exactly like Collections.shuffle() to draw the same random numbers
+        for (int i = terrainTypeQueue.length; i > 1; --i) {
+            int j = random.nextInt(i);
+            TerrainType terrainType = terrainTypeQueue[i - 1];
+            terrainTypeQueue[i - 1] = terrainTypeQueue[j];
+            terrainTypeQueue[j] = terrainType;
+        }
+
+        long grass = fortStructure.grass();
+        long mountains = fortStructure.mountains();
+        long water = fortStructure.water();
+
+        for (int index : POSITION_ORDER) {
+            long bit = 1L << index;
+
+            if ((fortStructure.fields() & bit) != 0) {
+                continue;
+            }
+
+            switch (terrainTypeQueue[--remainingMapNodes]) {
+                case GRASS -> grass |= bit;
+                case MOUNTAIN -> mountains |= bit;
+                case WATER -> water |= bit;
+            }
+        }
+
+        return new HalfMapBitboard(grass | mountains | water, grass, mountains, water,
+                                   fortStructure.playerForts(), 0L, 0L);
+    }
+
+    private boolean isValidCandidate(HalfMapBitboard candidate, HalfMapValidator validator) {
+        boolean isValid = bitboardValidator.isValid(candidate);
+
+        // Only build the detailed messages, if anyone is going to read them
+        if (!isValid && logger.isDebugEnabled()) {
+            logger.debug("The generated half map violates the following rules:\n{}",
+                         validator.validate(candidate.intoMap()));
+        }
+
+        return isValid;
+    }
+
     public GameMap generateUntilValid(HalfMapValidator validator) {
         int generateTries = 0;
         GameMap map;
-        Notification<GameMapValidationRule> validationErrors;
+        boolean isValid;
 
         do {
-            ++generateTries;
-            map = generateMap();
-            validationErrors = validator.validate(map);
+            HalfMapBitboard candidate;
+
+            // Screen the candidates on their bitboards and only decode the valid one
+            do {
+                ++generateTries;
+                candidate = generateCandidate();
+            } while (!isValidCandidate(candidate, validator));
+
+            map = candidate.intoMap();
+            isValid = validator.isValid(map);
 
-            if (validationErrors.hasEntries()) {
-                logger.debug("The generated half map violates the following rules:\n{}",
-                             validationErrors);
+            if (!isValid) {
+                logger.warn("The screened half map violates the following rules:\n{}",
+                            validator.validate(map));
             }
-        } while(validationErrors.hasEntries());
+        } while (!isValid);
 
         logger.debug("It took {} tries to generate a valid GameMap instance.", generateTries);
 
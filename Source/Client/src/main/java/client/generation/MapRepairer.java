@@ -0,0 +1,167 @@
+package client.generation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.Position;
+import client.map.TerrainType;
+import client.validation.GameMapBorderAccessibilityValidator;
+import client.validation.GameMapTerrainReachabilityValidator;
+import client.validation.GameMapValidationRule;
+import client.validation.IncrementalHalfMapValidator;
+
+/**
+ * Repairs half maps that only violate the border accessibility or terrain reachability rules,
+ * by swapping water fields with accessible fields in a simulated annealing search.
+ * <p>
+ * Swapping terrain types never changes the terrain distribution, and the fort's field is never
+ * swapped, so only the two rules that a swap can break have to be checked again after each
+ * swap. Both the violation count and the fields taking part in a violation come from an
+ * {@link IncrementalHalfMapValidator}, so the search optimizes exactly what the validator
+ * checks.
+ */
+public class MapRepairer {
+
+    private static final int MAX_SWAPS = 200;
+    private static final double INITIAL_TEMPERATURE = 1.0;
+    private static final double COOLING_FACTOR = 0.95;
+
+    private final Random random;
+
+    private MapRepairer(Random random) {
+        this.random = random;
+    }
+
+    public MapRepairer() {
+        this(new Random());
+    }
+
+    public MapRepairer(long seed) {
+        this(new Random(seed));
+    }
+
+    private static boolean isRepairable(GameMapValidationRule rule) {
+        return rule instanceof GameMapBorderAccessibilityValidator
+                || rule instanceof GameMapTerrainReachabilityValidator;
+    }
+
+    /**
+     * Returns whether all {@code violatedRules} can be fixed by swapping terrain types.
+     *
+     * @param violatedRules the violated rules of a half map
+     * @return whether the half map can be repaired
+     */
+    public boolean canRepair(Collection<? extends GameMapValidationRule> violatedRules) {
+        return violatedRules.stream().allMatch(MapRepairer::isRepairable);
+    }
+
+    private static List<Position> getWaterPositions(IncrementalHalfMapValidator validator,
+                                                    List<Position> positions) {
+        return positions.stream()
+                .filter(position -> validator.getTerrainTypeAt(position) == TerrainType.WATER)
+                .toList();
+    }
+
+    /**
+     * Returns the water fields that take part in a violation, i.e. lie on a border with too
+     * much water or next to an unreachable field, or all water fields if there are none.
+     */
+    private static List<Position> getFlaggedWaterPositions(IncrementalHalfMapValidator validator,
+                                                           List<Position> positions) {
+        List<Position> waterPositions = getWaterPositions(validator, positions);
+        List<Position> flaggedPositions = waterPositions.stream()
+                .filter(validator::isPartOfViolation)
+                .toList();
+
+        return flaggedPositions.isEmpty() ? waterPositions : flaggedPositions;
+    }
+
+    private static List<Position> getSwappableAccessiblePositions(
+            IncrementalHalfMapValidator validator, List<Position> positions,
+            Position fortPosition) {
+        return positions.stream()
+                .filter(position -> validator.getTerrainTypeAt(position) != TerrainType.WATER)
+                .filter(position -> !position.equals(fortPosition))
+                .toList();
+    }
+
+    private static void swap(IncrementalHalfMapValidator validator, Position firstPosition,
+                             Position secondPosition) {
+        TerrainType firstTerrain = validator.getTerrainTypeAt(firstPosition);
+
+        validator.changeTerrain(firstPosition, validator.getTerrainTypeAt(secondPosition));
+        validator.changeTerrain(secondPosition, firstTerrain);
+    }
+
+    private static GameMap intoGameMap(IncrementalHalfMapValidator validator, GameMap map) {
+        return new GameMap(map.getMapNodes().stream()
+                                   .map(mapNode -> new GameMapNode(
+                                           mapNode.getPosition(),
+                                           validator.getTerrainTypeAt(mapNode.getPosition()),
+                                           mapNode.getFortState(),
+                                           mapNode.getTreasureState()))
+                                   .toList());
+    }
+
+    /**
+     * Tries to repair the half map {@code map} within a bounded amount of swaps.
+     *
+     * @param map the half map, which only violates repairable rules
+     * @return the repaired half map, if the repair succeeded
+     */
+    public Optional<MapRepair> repair(GameMap map) {
+        IncrementalHalfMapValidator validator = new IncrementalHalfMapValidator(map);
+        List<Position> positions = map.getMapNodes().stream()
+                .map(GameMapNode::getPosition)
+                .toList();
+        Position fortPosition = map.getPlayerFortPosition().orElse(Position.originPosition);
+
+        int violationCount = validator.countViolations();
+        double temperature = INITIAL_TEMPERATURE;
+        int swapCount = 0;
+
+        while (violationCount > 0 && swapCount < MAX_SWAPS) {
+            List<Position> waterCandidates = getFlaggedWaterPositions(validator, positions);
+            List<Position> accessibleCandidates = getSwappableAccessiblePositions(
+                    validator, positions, fortPosition);
+
+            Position waterPosition = waterCandidates.get(random.nextInt(waterCandidates.size()));
+            Position accessiblePosition = accessibleCandidates.get(
+                    random.nextInt(accessibleCandidates.size()));
+
+            swap(validator, waterPosition, accessiblePosition);
+            ++swapCount;
+
+            int newViolationCount = validator.countViolations();
+            int violationDelta = newViolationCount - violationCount;
+
+            if (violationDelta <= 0
+                    || random.nextDouble() < Math.exp(-violationDelta / temperature)) {
+                violationCount = newViolationCount;
+            } else {
+                swap(validator, waterPosition, accessiblePosition);
+            }
+
+            temperature *= COOLING_FACTOR;
+        }
+
+        if (violationCount > 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new MapRepair(intoGameMap(validator, map), swapCount));
+    }
+
+    /**
+     * A repaired half map.
+     *
+     * @param map the repaired half map
+     * @param swapCount the number of swaps (accepted or not) that were needed
+     */
+    public record MapRepair(GameMap map, int swapCount) {
+    }
+}
@@ -0,0 +1,119 @@
+package client.generation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+import client.map.GameMap;
+import client.validation.BitboardHalfMapValidator;
+import client.validation.HalfMapBitboard;
+import client.validation.HalfMapValidator;
+
+/**
+ * Generates half maps with multiple workers racing each other, each with its own seeded
+ * {@link MapGenerator}, until one of them generates a valid half map.
+ * <p>
+ * To keep seeded runs deterministic, the tries of all workers are interleaved into a global
+ * order ({@code try * workerCount + worker}), and the valid half map that comes first in that
+ * order wins, instead of the one that happens to be validated first. A worker stops as soon as
+ * its next try comes after the best valid try so far, as it cannot win anymore.
+ */
+public class ParallelMapGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelMapGenerator.class);
+
+    private static final long NO_TICKET = Long.MAX_VALUE;
+
+    private final int workerCount;
+    private final long[] workerSeeds;
+
+    private ParallelMapGenerator(int workerCount, Random seedSource) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("There must be at least one worker");
+        }
+
+        this.workerCount = workerCount;
+        this.workerSeeds = seedSource.longs(workerCount).toArray();
+    }
+
+    public ParallelMapGenerator(int workerCount) {
+        this(workerCount, new Random());
+    }
+
+    public ParallelMapGenerator(int workerCount, long seed) {
+        this(workerCount, new Random(seed));
+    }
+
+    private int runWorker(int worker, HalfMapValidator validator, AtomicLong bestTicket,
+                          AtomicReferenceArray<GameMap> validMaps) {
+        MapGenerator mapGenerator = new MapGenerator(workerSeeds[worker]);
+        BitboardHalfMapValidator bitboardValidator = new BitboardHalfMapValidator();
+        int generateTries = 0;
+
+        for (long ticket = worker; ticket < bestTicket.get(); ticket += workerCount) {
+            ++generateTries;
+            HalfMapBitboard candidate = mapGenerator.generateCandidate();
+
+            // Screen the candidates on their bitboards and only decode the promising ones
+            if (!bitboardValidator.isValid(candidate)) {
+                continue;
+            }
+
+            GameMap map = candidate.intoMap();
+
+            if (validator.isValid(map)) {
+                validMaps.set(worker, map);
+                bestTicket.accumulateAndGet(ticket, Math::min);
+                break;
+            }
+        }
+
+        return generateTries;
+    }
+
+    private static int getWorkerTries(Future<Integer> worker) {
+        if (worker.state() == Future.State.FAILED) {
+            throw new IllegalStateException("Worker failed to generate a half map",
+                                            worker.exceptionNow());
+        }
+
+        return worker.resultNow();
+    }
+
+    public MapGenerationReport generateUntilValid(HalfMapValidator validator) {
+        long startTime = System.nanoTime();
+
+        AtomicLong bestTicket = new AtomicLong(NO_TICKET);
+        AtomicReferenceArray<GameMap> validMaps = new AtomicReferenceArray<>(workerCount);
+        List<Future<Integer>> workers;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            workers = IntStream.range(0, workerCount)
+                    .mapToObj(worker -> executor.submit(
+                            () -> runWorker(worker, validator, bestTicket, validMaps)))
+                    .toList();
+        }
+
+        List<Integer> tries = workers.stream()
+                .map(ParallelMapGenerator::getWorkerTries)
+                .toList();
+
+        int winningWorker = (int) (bestTicket.get() % workerCount);
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+        logger.debug("Worker {} generated a valid GameMap instance after {} ({} tries per worker).",
+                     winningWorker, wallTime, tries);
+
+        return new MapGenerationReport(validMaps.get(winningWorker), winningWorker, tries,
+                                       wallTime);
+    }
+}
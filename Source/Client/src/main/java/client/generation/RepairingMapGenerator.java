@@ -0,0 +1,74 @@
+package client.generation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import client.generation.MapRepairer.MapRepair;
+import client.map.GameMap;
+import client.validation.HalfMapValidator;
+
+/**
+ * Generates half maps like the {@link MapGenerator}, but tries to repair an invalid half map
+ * with the {@link MapRepairer}, before throwing it away and generating a new one.
+ */
+public class RepairingMapGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepairingMapGenerator.class);
+
+    private final MapGenerator mapGenerator;
+    private final MapRepairer mapRepairer;
+
+    private RepairingMapGenerator(Random random) {
+        this.mapGenerator = new MapGenerator(random.nextLong());
+        this.mapRepairer = new MapRepairer(random.nextLong());
+    }
+
+    public RepairingMapGenerator() {
+        this(new Random());
+    }
+
+    public RepairingMapGenerator(long seed) {
+        this(new Random(seed));
+    }
+
+    /**
+     * Generates half maps and repairs them if possible, until a half map is valid.
+     * <p>
+     * The number of tries in the report is the number of generated half maps, so it can be
+     * compared with the tries of the {@link MapGenerator} or {@link ParallelMapGenerator}.
+     *
+     * @param validator the validator to check the generated half maps with
+     * @return the report with the valid half map
+     */
+    public MapGenerationReport generateUntilValid(HalfMapValidator validator) {
+        long startTime = System.nanoTime();
+        int generateTries = 0;
+        int swapCount = 0;
+        Optional<GameMap> validMap = Optional.empty();
+
+        while (validMap.isEmpty()) {
+            ++generateTries;
+            GameMap map = mapGenerator.generateMap();
+            if (validator.isValid(map)) {
+                validMap = Optional.of(map);
+            } else if (mapRepairer.canRepair(validator.findViolatedRules(map))) {
+                Optional<MapRepair> repair = mapRepairer.repair(map);
+
+                swapCount += repair.map(MapRepair::swapCount).orElse(0);
+                validMap = repair.map(MapRepair::map)
+                        .filter(validator::isValid);
+            }
+        }
+
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - startTime);
+        logger.debug("It took {} tries and {} swaps to generate a valid GameMap instance.",
+                     generateTries, swapCount);
+
+        return new MapGenerationReport(validMap.get(), 0, List.of(generateTries), wallTime);
+    }
+}
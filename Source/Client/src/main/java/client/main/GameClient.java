@@ -70,6 +70,8 @@ public class GameClient extends Observable<GameClientEvent> {
             currentDirections.addAll(currentStage.retrieveNextDirections(currentState));
         }
 
+        currentState.countMove();
+
         return currentDirections.removeFirst();
     }
 
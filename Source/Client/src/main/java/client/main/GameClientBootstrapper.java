@@ -6,7 +6,8 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.function.Predicate;
 
-import client.generation.MapGenerator;
+import client.generation.MapGenerationReport;
+import client.generation.ParallelMapGenerator;
 import client.main.stage.FindEnemyFort;
 import client.main.stage.FindTreasure;
 import client.main.stage.Stage;
@@ -54,10 +55,15 @@ public class GameClientBootstrapper {
     }
 
     private static GameMap generateGameMap() {
-        MapGenerator mapGenerator = new MapGenerator();
+        int workerCount = Runtime.getRuntime().availableProcessors();
+        ParallelMapGenerator mapGenerator = new ParallelMapGenerator(workerCount);
         HalfMapValidator mapValidator = new HalfMapValidator();
 
-        return mapGenerator.generateUntilValid(mapValidator);
+        MapGenerationReport report = mapGenerator.generateUntilValid(mapValidator);
+        logger.info("Client generated a valid half map with {} workers in {} ({} tries)",
+                    workerCount, report.wallTime(), report.getTotalTries());
+
+        return report.map();
     }
 
     private static GameClientToken registerPlayer(GameServerClient serverClient, String gameId) {
@@ -120,6 +126,8 @@ public class GameClientBootstrapper {
         GameMap currentMap = clientState.getMap();
         logger.info("Client received the full map\n{}", currentMap);
 
+        clientState.precomputeDistances();
+
         GameClient gameClient = new GameClient(clientState, GAME_STAGES);
         GameClientController controller = new GameClientController(gameClient,
                                                                    stateUpdater,
@@ -4,20 +4,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import client.map.ConcurrentGameMap;
+import client.map.DiscoveryEvent;
+import client.map.FortState;
 import client.map.GameMap;
 import client.map.GameMapNode;
 import client.map.Position;
+import client.map.TreasureState;
 import client.player.Player;
+import client.search.ConnectedComponents;
+import client.search.DistanceOracle;
+import client.util.Observer;
 import messagesbase.messagesfromserver.EPlayerPositionState;
 import messagesbase.messagesfromserver.FullMap;
 import messagesbase.messagesfromserver.FullMapNode;
 import messagesbase.messagesfromserver.GameState;
 import messagesbase.messagesfromserver.PlayerState;
 
-public class GameClientState {
+public class GameClientState implements Observer<DiscoveryEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(GameClientState.class);
 
@@ -25,7 +33,18 @@ public class GameClientState {
     private final String stateId;
     private final GameMap map;
     private final Player player;
+    private Optional<ConcurrentGameMap> concurrentMap;
     private Optional<Player> enemy;
+    private Optional<DistanceOracle> distanceOracle;
+    private Optional<ConnectedComponents> connectedComponents;
+
+    // Tracked through discovery events, so objectives are not searched for on every turn
+    private boolean isTreasureFound;
+    private boolean isEnemyFortFound;
+    private boolean isSubscribed;
+
+    // The server does not tell the current turn, so the client counts its own moves instead
+    private int moveCount;
 
     private GameClientState(String gameId, String stateId, GameMap map,
                             Player player, Optional<Player> enemy) {
@@ -33,7 +52,15 @@ public class GameClientState {
         this.stateId = stateId;
         this.map = map;
         this.player = player;
+        this.concurrentMap = Optional.empty();
         this.enemy = enemy;
+        this.distanceOracle = Optional.empty();
+        this.connectedComponents = Optional.empty();
+        this.isTreasureFound = player.hasTreasure()
+                || map.anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT);
+        this.isEnemyFortFound = map.anyMapNodeMatch(FortState.ENEMY_FORT_PRESENT);
+        this.isSubscribed = false;
+        this.moveCount = 0;
     }
 
     public GameClientState(String gameId, String stateId, GameMap map,
@@ -99,6 +126,22 @@ public class GameClientState {
         return new GameClientState(gameId, stateId, map, player, enemy);
     }
 
+    /**
+     * Subscribes to the discoveries of the map and the player, once this state is updated for
+     * the first time, as only then they can change. The (transient) new states it is updated
+     * with are thus never subscribed to anything.
+     */
+    private void subscribeToDiscoveries() {
+        if (isSubscribed) {
+            return;
+        }
+
+        map.subscribe(this, List.of(DiscoveryEvent.TREASURE_SIGHTED,
+                                    DiscoveryEvent.ENEMY_FORT_SIGHTED));
+        player.subscribe(this, List.of(DiscoveryEvent.TREASURE_COLLECTED));
+        isSubscribed = true;
+    }
+
     private void updateEnemy(Player newEnemy) {
         if (enemy.isEmpty()) {
             enemy = Optional.of(newEnemy);
@@ -121,9 +164,15 @@ public class GameClientState {
             return false;
         }
 
+        subscribeToDiscoveries();
         player.update(newState.player);
         newState.enemy.ifPresent(this::updateEnemy);
-        map.update(newState.map, player.getPosition());
+
+        if (concurrentMap.isPresent()) {
+            concurrentMap.get().update(newState.map, player.getPosition());
+        } else {
+            map.update(newState.map, player.getPosition());
+        }
 
         return true;
     }
@@ -132,6 +181,55 @@ public class GameClientState {
         return map;
     }
 
+    /**
+     * Returns the latest snapshot of the map, which, unlike {@link #getMap()}, is safe to read
+     * on other threads (e.g. by background planners), while new game states are ingested.
+     * <p>
+     * Snapshots are only published from the first call on, as every published snapshot makes
+     * the following update copy the map's grid. Thus, this must be called on the thread updating
+     * the state, before handing the snapshot to any other thread.
+     *
+     * @return an immutable snapshot of the map
+     */
+    public GameMap getMapSnapshot() {
+        if (concurrentMap.isEmpty()) {
+            concurrentMap = Optional.of(new ConcurrentGameMap(map));
+        }
+
+        return concurrentMap.get().getSnapshot();
+    }
+
+    /**
+     * Precomputes the travel costs and the connected components between all map nodes of the
+     * full map, which is possible as soon as the full map is known, since the terrain of a map
+     * node never changes.
+     */
+    public void precomputeDistances() {
+        distanceOracle = Optional.of(DistanceOracle.fromMap(map));
+        connectedComponents = Optional.of(ConnectedComponents.fromMap(map));
+    }
+
+    public Optional<DistanceOracle> getDistanceOracle() {
+        return distanceOracle;
+    }
+
+    public Optional<ConnectedComponents> getConnectedComponents() {
+        return connectedComponents;
+    }
+
+    /**
+     * Returns whether the player can walk to the {@code destination} at all, which is assumed
+     * as long as the connected components of the full map are not known yet.
+     *
+     * @param destination the position to walk to
+     * @return whether the destination is reachable from the player's position
+     */
+    public boolean isReachableByPlayer(Position destination) {
+        return connectedComponents
+                .map(components -> components.isReachable(getPlayerPosition(), destination))
+                .orElse(true);
+    }
+
     public Optional<Position> getMapNodePosition(Predicate<GameMapNode> predicate) {
         return map.getPositionsByMapNode(predicate).stream().findFirst();
     }
@@ -156,8 +254,31 @@ public class GameClientState {
         return player.shouldPlayerAct();
     }
 
+    public void countMove() {
+        ++moveCount;
+    }
+
+    /**
+     * Returns the number of moves the client has made, which differs from the number of moves
+     * the enemy has made by at most one, as both players take turns.
+     *
+     * @return the number of moves made by the client
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    @Override
+    public void update(DiscoveryEvent event) {
+        switch (event) {
+            case TREASURE_SIGHTED, TREASURE_COLLECTED -> isTreasureFound = true;
+            case ENEMY_FORT_SIGHTED -> isEnemyFortFound = true;
+            default -> { }
+        }
+    }
+
     public boolean hasFoundTreasure() {
-        return hasCollectedTreasure() || map.anyMapNodeMatch(GameMapNode::hasTreasure);
+        return isTreasureFound;
     }
 
     public boolean hasCollectedTreasure() {
@@ -165,7 +286,7 @@ public class GameClientState {
     }
 
     public boolean hasFoundEnemyFort() {
-        return hasClientWon() || map.anyMapNodeMatch(GameMapNode::hasEnemyFort);
+        return hasClientWon() || isEnemyFortFound;
     }
 
     public boolean hasClientWon() {
@@ -1,41 +1,137 @@
 package client.main.stage;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import client.main.GameClientState;
+import client.map.Bitboard;
 import client.map.GameMap;
-import client.map.GameMapNode;
+import client.map.HalfMapView;
 import client.map.MapDirection;
+import client.map.MapRegion;
 import client.map.Position;
+import client.map.TerrainType;
+import client.player.Player;
 import client.search.AStarPathFinder;
+import client.search.DStarLitePathFinder;
+import client.search.DistanceOracle;
+import client.search.EnemyFortBelief;
+import client.search.FortEstimator;
+import client.search.VantagePointSelector;
 
 public class FindEnemyFort implements Stage {
 
-    private static Optional<Position> findFortStructurePosition(GameMap map) {
-        return map.getMapNodes().stream()
-                .filter(GameMapNode::isLootable)
-                .filter(GameMapNode::isUnvisited)
-                .map(GameMapNode::getPosition)
-                .filter(mapNodePosition -> {
-                    Set<GameMapNode> neighborNodes = map.getAllNeighbors(mapNodePosition);
+    // Both players take turns, so the enemy has made at most one move more or less than us
+    private static final int TURN_ORDER_SLACK = 1;
 
-                    return neighborNodes.stream()
-                            .filter(neighborNode -> !neighborNode.isAccessible())
-                            .count() > 2L;
-                })
-                .findFirst();
+    // Moves spent on a step, which the enemy has not completed yet, are not seen at all
+    private static final int MAX_PENDING_STEP_MOVES =
+            TerrainType.computeTravelCost(TerrainType.MOUNTAIN, TerrainType.MOUNTAIN) - 1;
+
+    private Optional<DStarLitePathFinder> pathFinder = Optional.empty();
+    private Optional<Position> explorationGoal = Optional.empty();
+    private Optional<VantagePointSelector> vantagePointSelector = Optional.empty();
+    private Optional<EnemyFortBelief> fortBelief = Optional.empty();
+    private Optional<FortEstimator> fortEstimator = Optional.empty();
+
+    private DStarLitePathFinder getPathFinder(GameMap map) {
+        if (pathFinder.filter(currentPathFinder -> currentPathFinder.isSearchingOn(map))
+                .isEmpty()) {
+            pathFinder = Optional.of(new DStarLitePathFinder(map));
+        }
+
+        return pathFinder.orElseThrow();
+    }
+
+    private VantagePointSelector getVantagePointSelector(GameMap map,
+                                                         DistanceOracle distanceOracle) {
+        if (vantagePointSelector.filter(currentSelector -> currentSelector.isSelectingOn(map))
+                .isEmpty()) {
+            vantagePointSelector = Optional.of(new VantagePointSelector(map, distanceOracle));
+        }
+
+        return vantagePointSelector.orElseThrow();
+    }
+
+    /**
+     * Finds the position, from which the map node at {@code targetPosition} is revealed the
+     * cheapest, e.g. a mountain next to it instead of the map node itself.
+     */
+    private Optional<Position> findVantagePosition(GameClientState state,
+                                                   Position targetPosition) {
+        GameMap currentMap = state.getMap();
+        Bitboard targetBoard = new Bitboard(currentMap.getIndexBound());
+        targetBoard.set(currentMap.indexOf(targetPosition));
+
+        return state.getDistanceOracle()
+                .map(distanceOracle -> getVantagePointSelector(currentMap, distanceOracle))
+                .flatMap(selector -> selector.selectNextVantagePosition(state.getPlayerPosition(),
+                                                                        targetBoard));
+    }
+
+    /**
+     * Returns the grid indices of all positions the enemy can have started walking at, i.e. its
+     * fort, given the travel costs it can have spent until now.
+     */
+    private Optional<Bitboard> findPossibleStartBoard(GameClientState state, GameMap map) {
+        if (state.getEnemy().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Player enemy = state.getEnemy().get();
+
+        if (fortEstimator.filter(currentEstimator -> currentEstimator.isEstimating(map, enemy))
+                .isEmpty()) {
+            fortEstimator = Optional.of(new FortEstimator(map, enemy));
+        }
+
+        int minTurn = state.getMoveCount() - TURN_ORDER_SLACK - MAX_PENDING_STEP_MOVES;
+        int maxTurn = state.getMoveCount() + TURN_ORDER_SLACK;
+
+        return fortEstimator.orElseThrow().getPossibleBoard(minTurn, maxTurn);
+    }
+
+    private EnemyFortBelief getFortBelief(GameClientState state, GameMap map,
+                                          MapRegion enemyHalfMap) {
+        if (fortBelief.filter(currentBelief -> currentBelief.isBelievingOn(map)).isEmpty()) {
+            fortBelief = Optional.of(new EnemyFortBelief(map, enemyHalfMap,
+                                                         state::isReachableByPlayer));
+        }
+
+        EnemyFortBelief currentBelief = fortBelief.orElseThrow();
+        currentBelief.update(state.getEnemy()
+                                     .map(Player::getPositionHistory)
+                                     .orElse(List.of()),
+                             findPossibleStartBoard(state, map));
+
+        return currentBelief;
     }
 
     @Override
     public Collection<MapDirection> retrieveNextDirections(GameClientState state) {
         GameMap currentMap = state.getMap();
-        GameMap enemyHalfMap = currentMap.getEnemyHalfMap();
+        HalfMapView enemyHalfMap = currentMap.getEnemyHalfMapView();
+
+        DStarLitePathFinder currentPathFinder = getPathFinder(currentMap);
+
+        Optional<Position> fortPosition = getFortBelief(state, currentMap, enemyHalfMap)
+                .getMostLikelyPosition();
+
+        if (fortPosition.isEmpty()) {
+            // Keep the goal, so the path finder only repairs its search tree between turns
+            explorationGoal = AStarPathFinder.selectExplorationGoal(state, enemyHalfMap,
+                                                                    explorationGoal);
+
+            return AStarPathFinder.getWalkTo(state, explorationGoal.orElseThrow(),
+                                             currentPathFinder);
+        }
 
-        return findFortStructurePosition(enemyHalfMap)
-                .map(possiblePosition -> AStarPathFinder.getDirectWalkTo(state, possiblePosition))
-                .orElseGet(() -> AStarPathFinder.getWalkToUnvisitedMapNode(state, enemyHalfMap));
+        // The fort is found as soon as it is in sight, which may be cheaper than walking onto it
+        return findVantagePosition(state, fortPosition.get())
+                .map(vantagePosition -> AStarPathFinder.getDirectWalkTo(state, vantagePosition))
+                .orElseGet(() -> AStarPathFinder.getWalkTo(state, fortPosition.get(),
+                                                           currentPathFinder));
     }
 
     @Override
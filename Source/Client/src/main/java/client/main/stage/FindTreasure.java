@@ -1,20 +1,131 @@
 package client.main.stage;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Optional;
 
 import client.main.GameClientState;
 import client.map.GameMap;
+import client.map.HalfMapView;
 import client.map.MapDirection;
+import client.map.Position;
 import client.search.AStarPathFinder;
+import client.search.DStarLitePathFinder;
+import client.search.DistanceOracle;
+import client.search.ExplorationTour;
+import client.search.ExplorationTourPlanner;
+import client.search.TreasureEstimate;
+import client.search.TreasureEstimator;
 
 public class FindTreasure implements Stage {
 
+    private static final long DEFAULT_PLANNING_BUDGET_MILLIS = 50;
+
+    private final long planningBudgetMillis;
+    private final Deque<Position> vantagePositions = new ArrayDeque<>();
+    private Optional<DStarLitePathFinder> pathFinder = Optional.empty();
+    private Optional<Position> explorationGoal = Optional.empty();
+    private Optional<ExplorationTourPlanner> tourPlanner = Optional.empty();
+    private Optional<TreasureEstimator> treasureEstimator = Optional.empty();
+
+    public FindTreasure() {
+        this(DEFAULT_PLANNING_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates the stage, which plans its exploration tours within the given time budget.
+     *
+     * @param planningBudgetMillis the time in milliseconds a single tour planning may take
+     */
+    public FindTreasure(long planningBudgetMillis) {
+        this.planningBudgetMillis = planningBudgetMillis;
+    }
+
+    private DStarLitePathFinder getPathFinder(GameMap map) {
+        if (pathFinder.filter(currentPathFinder -> currentPathFinder.isSearchingOn(map))
+                .isEmpty()) {
+            pathFinder = Optional.of(new DStarLitePathFinder(map));
+        }
+
+        return pathFinder.orElseThrow();
+    }
+
+    Optional<DStarLitePathFinder> getCurrentPathFinder() {
+        return pathFinder;
+    }
+
+    private ExplorationTourPlanner getTourPlanner(GameMap map, DistanceOracle distanceOracle) {
+        if (tourPlanner.filter(currentPlanner -> currentPlanner.isPlanningOn(map)).isEmpty()) {
+            tourPlanner = Optional.of(new ExplorationTourPlanner(map, distanceOracle,
+                                                                 planningBudgetMillis));
+        }
+
+        return tourPlanner.orElseThrow();
+    }
+
+    private TreasureEstimator getTreasureEstimator(GameMap map, DistanceOracle distanceOracle) {
+        if (treasureEstimator.filter(currentEstimator -> currentEstimator.isEstimatingOn(map))
+                .isEmpty()) {
+            treasureEstimator = Optional.of(new TreasureEstimator(map, distanceOracle));
+        }
+
+        return treasureEstimator.orElseThrow();
+    }
+
+    private Optional<Position> getNextVantagePosition(GameClientState state,
+                                                      DistanceOracle distanceOracle) {
+        GameMap currentMap = state.getMap();
+        HalfMapView playerHalfMap = currentMap.getPlayerHalfMapView();
+        Position playerPosition = state.getPlayerPosition();
+        ExplorationTourPlanner planner = getTourPlanner(currentMap, distanceOracle);
+
+        // Skip vantage positions, which have been reached or have nothing left to see
+        while (!vantagePositions.isEmpty()
+                && (vantagePositions.peekFirst().equals(playerPosition)
+                || !planner.hasTargetInSight(vantagePositions.peekFirst(), playerHalfMap))) {
+            vantagePositions.removeFirst();
+        }
+
+        if (vantagePositions.isEmpty()) {
+            ExplorationTour tour = planner.planTour(playerPosition, playerHalfMap);
+            vantagePositions.addAll(tour.vantagePositions());
+            vantagePositions.remove(playerPosition);
+        }
+
+        // The tour is the shortest way to see everything, but the treasure is usually found
+        // earlier, so visit the vantage position first, which reveals it the fastest on average
+        if (vantagePositions.size() > 1) {
+            getTreasureEstimator(currentMap, distanceOracle)
+                    .estimateBestDestination(playerPosition, playerHalfMap, vantagePositions)
+                    .map(TreasureEstimate::destination)
+                    .ifPresent(destination -> {
+                        vantagePositions.remove(destination);
+                        vantagePositions.addFirst(destination);
+                    });
+        }
+
+        return Optional.ofNullable(vantagePositions.peekFirst());
+    }
+
     @Override
     public Collection<MapDirection> retrieveNextDirections(GameClientState state) {
         GameMap currentMap = state.getMap();
-        GameMap playerHalfMap = currentMap.getPlayerHalfMap();
+        HalfMapView playerHalfMap = currentMap.getPlayerHalfMapView();
+
+        Optional<Position> vantagePosition = state.getDistanceOracle()
+                .flatMap(distanceOracle -> getNextVantagePosition(state, distanceOracle));
+
+        if (vantagePosition.isPresent()) {
+            return AStarPathFinder.getDirectWalkTo(state, vantagePosition.get());
+        }
+
+        // Keep the goal, so the path finder only repairs its search tree between turns
+        explorationGoal = AStarPathFinder.selectExplorationGoal(state, playerHalfMap,
+                                                                explorationGoal);
 
-        return AStarPathFinder.getWalkToUnvisitedMapNode(state, playerHalfMap);
+        return AStarPathFinder.getWalkTo(state, explorationGoal.orElseThrow(),
+                                         getPathFinder(currentMap));
     }
 
     @Override
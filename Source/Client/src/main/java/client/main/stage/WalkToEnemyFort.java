@@ -3,7 +3,6 @@ package client.main.stage;
 import java.util.Collection;
 
 import client.main.GameClientState;
-import client.map.GameMapNode;
 import client.map.MapDirection;
 import client.map.Position;
 import client.search.AStarPathFinder;
@@ -16,7 +15,7 @@ public class WalkToEnemyFort implements Stage {
 
     @Override
     public Collection<MapDirection> retrieveNextDirections(GameClientState state) {
-        Position fortPosition = state.getMapNodePosition(GameMapNode::hasEnemyFort)
+        Position fortPosition = state.getMap().getEnemyFortPosition()
                 .orElseThrow(WalkToEnemyFort::provideInvalidStateException);
 
         return AStarPathFinder.getDirectWalkTo(state, fortPosition);
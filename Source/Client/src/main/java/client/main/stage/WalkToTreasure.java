@@ -3,7 +3,6 @@ package client.main.stage;
 import java.util.Collection;
 
 import client.main.GameClientState;
-import client.map.GameMapNode;
 import client.map.MapDirection;
 import client.map.Position;
 import client.search.AStarPathFinder;
@@ -16,7 +15,7 @@ public class WalkToTreasure implements Stage {
 
     @Override
     public Collection<MapDirection> retrieveNextDirections(GameClientState state) {
-        Position treasurePosition = state.getMapNodePosition(GameMapNode::hasTreasure)
+        Position treasurePosition = state.getMap().getTreasurePosition()
                 .orElseThrow(WalkToTreasure::provideInvalidStateException);
 
         return AStarPathFinder.getDirectWalkTo(state, treasurePosition);
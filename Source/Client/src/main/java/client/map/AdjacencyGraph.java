@@ -0,0 +1,154 @@
+package client.map;
+
+/**
+ * The accessible neighbors of every map node of a {@link GameMap}, compiled into compressed
+ * sparse rows, such that path finders and other traversals can walk the map without creating
+ * any objects.
+ * <p>
+ * The edges of the map node at grid index {@code i} are {@code getFirstEdge(i)} (inclusive) to
+ * {@code getLastEdge(i)} (exclusive). Each edge leads to an accessible neighbor and is weighted
+ * with {@link TerrainType#computeTravelCost(TerrainType, TerrainType)}. Map nodes, which are
+ * not accessible themselves, still have edges to their accessible neighbors, but those can
+ * never be walked along and thus weigh {@link #NO_TRAVEL}. Grid indices without a map node have
+ * no edges at all.
+ * <p>
+ * As the terrain of a map node never changes, the graph stays valid as long as no map nodes
+ * are added to the map.
+ */
+public class AdjacencyGraph {
+
+    public static final int NO_TRAVEL = Integer.MAX_VALUE;
+
+    private static final MapDirection[] DIRECTIONS = MapDirection.values();
+    private static final int NO_INDEX = -1;
+
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final int[] travelCosts;
+    private final byte[] directions;
+
+    private AdjacencyGraph(int[] offsets, int[] neighbors, int[] travelCosts,
+                           byte[] directions) {
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.travelCosts = travelCosts;
+        this.directions = directions;
+    }
+
+    /**
+     * Returns the grid index of the accessible neighbor in the given {@code direction} of the
+     * map node at {@code index}, see {@link GameMap#getReachableNeighborIndex(int, MapDirection)}.
+     */
+    private static int getReachableNeighborIndex(GameMapNode[] grid, PositionArea area,
+                                                 int index, MapDirection direction) {
+        int x = index % area.width() + direction.getOffsetX();
+        int y = index / area.width() + direction.getOffsetY();
+
+        if (x < 0 || x >= area.width() || y < 0 || y >= area.height()) {
+            return NO_INDEX;
+        }
+
+        int neighborIndex = x + y * area.width();
+
+        if (grid[neighborIndex] == null || !grid[neighborIndex].isAccessible()) {
+            return NO_INDEX;
+        }
+
+        return neighborIndex;
+    }
+
+    private static boolean hasEdge(GameMapNode[] grid, PositionArea area, int index,
+                                   MapDirection direction) {
+        return grid[index] != null
+                && getReachableNeighborIndex(grid, area, index, direction) != NO_INDEX;
+    }
+
+    /**
+     * Compiles the accessible neighbors of all map nodes of a map's {@code grid}. Works on the
+     * grid directly, so a {@link GameMap} can compile its graph while it is being constructed.
+     *
+     * @param grid the map nodes by grid index, {@code null} where there is none
+     * @param area the area the grid covers
+     * @return the compiled graph
+     */
+    static AdjacencyGraph fromGrid(GameMapNode[] grid, PositionArea area) {
+        int indexBound = grid.length;
+        int[] offsets = new int[indexBound + 1];
+
+        for (int index = 0; index < indexBound; ++index) {
+            int degree = 0;
+
+            for (MapDirection direction : DIRECTIONS) {
+                if (hasEdge(grid, area, index, direction)) {
+                    ++degree;
+                }
+            }
+
+            offsets[index + 1] = offsets[index] + degree;
+        }
+
+        int[] neighbors = new int[offsets[indexBound]];
+        int[] travelCosts = new int[offsets[indexBound]];
+        byte[] directions = new byte[offsets[indexBound]];
+
+        for (int index = 0; index < indexBound; ++index) {
+            int edge = offsets[index];
+
+            for (MapDirection direction : DIRECTIONS) {
+                if (!hasEdge(grid, area, index, direction)) {
+                    continue;
+                }
+
+                int neighborIndex = getReachableNeighborIndex(grid, area, index, direction);
+
+                neighbors[edge] = neighborIndex;
+                travelCosts[edge] = grid[index].isAccessible()
+                        ? TerrainType.computeTravelCost(grid[index].getTerrainType(),
+                                                        grid[neighborIndex].getTerrainType())
+                        : NO_TRAVEL;
+                directions[edge] = (byte) direction.ordinal();
+                ++edge;
+            }
+        }
+
+        return new AdjacencyGraph(offsets, neighbors, travelCosts, directions);
+    }
+
+    public int getIndexBound() {
+        return offsets.length - 1;
+    }
+
+    public int getEdgeCount() {
+        return neighbors.length;
+    }
+
+    public int getFirstEdge(int index) {
+        return offsets[index];
+    }
+
+    public int getLastEdge(int index) {
+        return offsets[index + 1];
+    }
+
+    /**
+     * Returns the number of accessible neighbors of the map node at {@code index}.
+     *
+     * @param index the grid index of the map node
+     * @return the number of accessible neighbors
+     */
+    public int getDegree(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    public int getNeighbor(int edge) {
+        return neighbors[edge];
+    }
+
+    public int getTravelCost(int edge) {
+        return travelCosts[edge];
+    }
+
+    public MapDirection getDirection(int edge) {
+        return DIRECTIONS[directions[edge]];
+    }
+}
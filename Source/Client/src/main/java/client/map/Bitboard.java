@@ -0,0 +1,158 @@
+package client.map;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A fixed-size set of bits backed by {@code long} words, where each bit represents the grid
+ * index of a map node in a {@link GameMap}.
+ * <p>
+ * In contrast to streaming over map nodes, set operations and counting are done one word (i.e.
+ * 64 map nodes) at a time, so a full map of 100 map nodes only needs two words.
+ */
+public class Bitboard {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int NO_INDEX = -1;
+
+    private final int size;
+    private final long[] words;
+
+    public Bitboard(int size) {
+        this.size = size;
+        this.words = new long[wordCount(size)];
+    }
+
+    public Bitboard(Bitboard other) {
+        this.size = other.size;
+        this.words = Arrays.copyOf(other.words, other.words.length);
+    }
+
+    private static int wordCount(int size) {
+        return (size + Long.SIZE - 1) >>> WORD_SHIFT;
+    }
+
+    private static int wordIndex(int index) {
+        return index >>> WORD_SHIFT;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean get(int index) {
+        return (words[wordIndex(index)] & (1L << index)) != 0;
+    }
+
+    public void set(int index) {
+        words[wordIndex(index)] |= 1L << index;
+    }
+
+    public void clear(int index) {
+        words[wordIndex(index)] &= ~(1L << index);
+    }
+
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        } else {
+            clear(index);
+        }
+    }
+
+    public void and(Bitboard other) {
+        for (int i = 0; i < words.length; ++i) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    public void or(Bitboard other) {
+        for (int i = 0; i < words.length; ++i) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    public void andNot(Bitboard other) {
+        for (int i = 0; i < words.length; ++i) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int cardinality() {
+        int count = 0;
+
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    public boolean intersects(Bitboard other) {
+        for (int i = 0; i < words.length; ++i) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of bits set in both this and the {@code other} bitboard, without
+     * allocating an intermediate bitboard.
+     *
+     * @param other the bitboard to intersect with
+     * @return the cardinality of the intersection
+     */
+    public int countIntersection(Bitboard other) {
+        int count = 0;
+
+        for (int i = 0; i < words.length; ++i) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the index of the first set bit at or after {@code fromIndex}.
+     *
+     * @param fromIndex the index to start searching from (inclusive)
+     * @return the index of the next set bit, or {@code -1} if there is none
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex >= size) {
+            return NO_INDEX;
+        }
+
+        int wordIndex = wordIndex(fromIndex);
+        long word = words[wordIndex] & (-1L << fromIndex);
+
+        while (word == 0) {
+            if (++wordIndex == words.length) {
+                return NO_INDEX;
+            }
+
+            word = words[wordIndex];
+        }
+
+        return (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+    }
+
+    public IntStream stream() {
+        return IntStream.iterate(nextSetBit(0),
+                                 index -> index != NO_INDEX,
+                                 index -> nextSetBit(index + 1));
+    }
+}
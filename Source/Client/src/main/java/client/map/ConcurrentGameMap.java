@@ -0,0 +1,83 @@
+package client.map;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link GameMap}, which can be read by planners on worker threads, while a single writer
+ * (e.g. the thread polling new game states) keeps updating it.
+ * <p>
+ * Readers never lock: after every update, the writer publishes an immutable
+ * {@link GameMap#snapshot()} through a volatile field, so a reader always gets a consistent
+ * view of one version of the map, which later updates do not change (read-copy-update). As
+ * snapshots are copy-on-write, publishing one does not copy anything, and the following update
+ * only copies the lookup structures and the map nodes it actually changes.
+ * <p>
+ * As long as a published snapshot shares the grid with the map, the next update has to copy
+ * the grid, so a map should only be wrapped once there actually is a reader on another thread.
+ * <p>
+ * The map itself must only be updated through {@link #update(GameMap, Position)}, which applies
+ * each update as a whole under a lock, so even accidental concurrent writers cannot interleave.
+ */
+public class ConcurrentGameMap {
+
+    private final GameMap map;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile GameMap publishedSnapshot;
+
+    /**
+     * Takes over the {@code map}, which must not be updated directly anymore, and publishes a
+     * snapshot of it for the first reader.
+     *
+     * @param map the map to update and publish
+     * @throws IllegalArgumentException if the map already is a snapshot
+     */
+    public ConcurrentGameMap(GameMap map) {
+        if (map.isSnapshot()) {
+            throw new IllegalArgumentException("A snapshot of a game map cannot be updated");
+        }
+
+        this.map = map;
+        this.publishedSnapshot = map.snapshot();
+    }
+
+    /**
+     * Applies the update to the map and publishes a snapshot of the result, see
+     * {@link GameMap#update(GameMap, Position)}.
+     *
+     * @param newMap the map to update with
+     * @param viewpointPosition the position the new map was seen from
+     */
+    public void update(GameMap newMap, Position viewpointPosition) {
+        writeLock.lock();
+
+        try {
+            map.update(newMap, viewpointPosition);
+            publishedSnapshot = map.snapshot();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the latest published snapshot of the map without locking.
+     *
+     * @return an immutable snapshot, which stays consistent across later updates
+     */
+    public GameMap getSnapshot() {
+        return publishedSnapshot;
+    }
+
+    public long getVersion() {
+        return publishedSnapshot.getVersion();
+    }
+
+    /**
+     * Returns the map itself, which is only safe to read on the writer's thread.
+     *
+     * @return the updated map
+     */
+    public GameMap getMap() {
+        return map;
+    }
+}
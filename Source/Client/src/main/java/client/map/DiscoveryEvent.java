@@ -0,0 +1,20 @@
+package client.map;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Discoveries emitted by {@link GameMap#update(GameMap, Position)} and
+ * {@link client.player.Player#update(client.player.Player)}, such that objectives can be
+ * tracked as they happen instead of being searched for on every turn.
+ */
+public enum DiscoveryEvent {
+    ENEMY_FORT_SIGHTED,
+    NODE_VISITED,
+    TREASURE_COLLECTED,
+    TREASURE_SIGHTED;
+
+    public static Collection<DiscoveryEvent> allEvents() {
+        return Arrays.stream(values()).toList();
+    }
+}
@@ -5,12 +5,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -21,22 +23,86 @@ import client.map.comparator.LootabilityComparator;
 import client.map.comparator.NeighborCountComparator;
 import client.map.comparator.TaxicabDistanceComparator;
 import client.util.ANSIColor;
+import client.util.Observable;
 import messagesbase.messagesfromclient.PlayerHalfMap;
 import messagesbase.messagesfromclient.PlayerHalfMapNode;
 import messagesbase.messagesfromserver.FullMap;
 
-public class GameMap {
+public class GameMap extends Observable<DiscoveryEvent> implements MapRegion {
 
     public static final Collector<GameMapNode, ?, Map<Position, GameMapNode>> mapCollector =
             Collectors.toMap(GameMapNode::getPosition, Function.identity());
 
     private static final int FULL_MAP_SIZE = 100;
 
-    private final Map<Position, GameMapNode> nodes;
+    private static final int NO_INDEX = -1;
+
+    private static final PositionArea EMPTY_AREA = new PositionArea(0, 0, 0, 0);
+
+    /*
+     * The map nodes are stored densely in row-major order, i.e. the node at (x, y) is placed at
+     * the index (x - area.x) + (y - area.y) * area.width, where the area is the bounding box of
+     * all nodes. Positions within the bounding box without any node are left as null.
+     */
+    private PositionArea area;
+    private GameMapNode[] grid;
+    private List<GameMapNode> nodes;
+    private GameMapBitboards bitboards;
+    private GameMapVisibility visibility;
+    private AdjacencyGraph adjacencyGraph;
+
+    /*
+     * The grid indices of all map nodes visited through update() since map nodes were last
+     * added, in the order they were visited. The log is only ever appended to, so snapshots
+     * share it and simply read up to their own visit count.
+     */
+    private int[] visitLog;
+    private int visitCount;
+
+    /*
+     * Snapshots share the grid, its helpers and the map nodes with the map they were taken of
+     * (copy-on-write): the map copies the grid and its helpers on the first update after a
+     * snapshot, and each map node only right before changing it. The shared node board holds the
+     * grid indices of all map nodes, which are still shared with any snapshot.
+     */
+    private final boolean isSnapshot;
+    private long version;
+    private boolean isGridShared;
+    private Bitboard sharedNodeBoard;
+    private Optional<GameMap> latestSnapshot = Optional.empty();
+
+    /*
+     * Snapshots may be read on several threads at once, so the lazily created half map views
+     * are published through volatile fields. Concurrent readers might each create a view, but as
+     * views are immutable, it does not matter whose view wins (benign race).
+     */
+    private volatile Optional<HalfMapView> playerHalfMapView = Optional.empty();
+    private volatile Optional<HalfMapView> enemyHalfMapView = Optional.empty();
 
     public GameMap(Map<Position, GameMapNode> mapNodes) {
-        this.nodes = HashMap.newHashMap(mapNodes.size());
-        this.nodes.putAll(mapNodes);
+        this.area = computeBoundingArea(mapNodes.keySet());
+        this.grid = new GameMapNode[area.width() * area.height()];
+        this.nodes = new ArrayList<>(mapNodes.size());
+        this.isSnapshot = false;
+
+        mapNodes.values().forEach(mapNode -> grid[toIndex(area, mapNode.getPosition())] = mapNode);
+        collectNodes();
+        this.sharedNodeBoard = new Bitboard(grid.length);
+    }
+
+    private GameMap(GameMap map) {
+        this.area = map.area;
+        this.grid = map.grid;
+        this.nodes = map.nodes;
+        this.bitboards = map.bitboards;
+        this.visibility = map.visibility;
+        this.adjacencyGraph = map.adjacencyGraph;
+        this.visitLog = map.visitLog;
+        this.visitCount = map.visitCount;
+        this.isSnapshot = true;
+        this.version = map.version;
+        this.isGridShared = true;
+        this.sharedNodeBoard = new Bitboard(grid.length);
     }
 
     public GameMap(Stream<GameMapNode> mapNodeStream) {
@@ -56,31 +122,252 @@ public class GameMap {
     }
 
     public PlayerHalfMap intoPlayerHalfMap(String playerId) {
-        Collection<PlayerHalfMapNode> halfMapNodes = nodes.values().stream()
+        Collection<PlayerHalfMapNode> halfMapNodes = nodes.stream()
                 .map(GameMapNode::intoPlayerHalfMapNode)
                 .collect(Collectors.toSet());
 
         return new PlayerHalfMap(playerId, halfMapNodes);
     }
 
+    private static PositionArea computeBoundingArea(Collection<Position> positions) {
+        if (positions.isEmpty()) {
+            return EMPTY_AREA;
+        }
+
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+
+        for (Position position : positions) {
+            minX = Math.min(minX, position.x());
+            minY = Math.min(minY, position.y());
+            maxX = Math.max(maxX, position.x());
+            maxY = Math.max(maxY, position.y());
+        }
+
+        return new PositionArea(new Position(minX, minY), new Position(maxX, maxY));
+    }
+
+    private static int toIndex(PositionArea area, int x, int y) {
+        return (x - area.x()) + (y - area.y()) * area.width();
+    }
+
+    private static int toIndex(PositionArea area, Position position) {
+        return toIndex(area, position.x(), position.y());
+    }
+
+    private void collectNodes() {
+        nodes = Arrays.stream(grid).filter(Objects::nonNull).toList();
+        bitboards = new GameMapBitboards(grid, area);
+        visibility = new GameMapVisibility(grid, area);
+        adjacencyGraph = AdjacencyGraph.fromGrid(grid, area);
+        visitLog = new int[grid.length];
+        visitCount = 0;
+
+        // Views hold grid indices, which are invalidated by adding map nodes
+        playerHalfMapView = Optional.empty();
+        enemyHalfMapView = Optional.empty();
+    }
+
+    /**
+     * Grows the grid to the bounding area of the current and the specified new positions.
+     * <p>
+     * All indices handed out before are invalidated if the area had to be grown.
+     *
+     * @param newPositions positions that should fit into the grid
+     */
+    private void growToFit(Collection<Position> newPositions) {
+        List<Position> allPositions = new ArrayList<>(newPositions);
+        if (!nodes.isEmpty()) {
+            allPositions.add(area.upperLeft());
+            allPositions.add(area.lowerRight());
+        }
+
+        PositionArea newArea = computeBoundingArea(allPositions);
+
+        if (newArea.equals(area)) {
+            return;
+        }
+
+        GameMapNode[] newGrid = new GameMapNode[newArea.width() * newArea.height()];
+        Bitboard newSharedNodeBoard = new Bitboard(newGrid.length);
+
+        nodes.forEach(mapNode -> newGrid[toIndex(newArea, mapNode.getPosition())] = mapNode);
+        sharedNodeBoard.stream().forEach(index -> newSharedNodeBoard.set(
+                toIndex(newArea, grid[index].getPosition())));
+
+        area = newArea;
+        grid = newGrid;
+        sharedNodeBoard = newSharedNodeBoard;
+        isGridShared = false;
+    }
+
+    /**
+     * Copies the grid and its helpers, if they are still shared with a snapshot, such that they
+     * can be changed without changing the snapshot.
+     */
+    private void unshareGrid() {
+        if (!isGridShared) {
+            return;
+        }
+
+        grid = grid.clone();
+        bitboards = new GameMapBitboards(bitboards);
+        visibility = new GameMapVisibility(visibility, grid);
+        isGridShared = false;
+    }
+
+    /**
+     * Returns the map node at {@code index}, which is copied first, if it is still shared with a
+     * snapshot.
+     */
+    private GameMapNode getWritableNodeAt(int index) {
+        unshareGrid();
+
+        if (sharedNodeBoard.get(index)) {
+            grid[index] = new GameMapNode(grid[index]);
+            sharedNodeBoard.clear(index);
+        }
+
+        return grid[index];
+    }
+
     public void update(GameMap newMap, Position viewpointPosition) {
-        Collection<Position> visiblePositions = getPositionsInSight(viewpointPosition);
+        if (isSnapshot) {
+            throw new IllegalStateException("A snapshot of a game map cannot be updated");
+        }
+
+        int cameraIndex = indexOf(viewpointPosition);
+
+        List<GameMapNode> addedMapNodes = new ArrayList<>();
+        boolean isAnyNodeCopied = false;
+        boolean isAnyNodeChanged = false;
+        boolean isAnyNodeVisited = false;
+        boolean hadTreasure = anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT);
+        boolean hadEnemyFort = anyMapNodeMatch(FortState.ENEMY_FORT_PRESENT);
+
+        for (GameMapNode newMapNode : newMap.nodes) {
+            int index = indexOf(newMapNode.getPosition());
 
-        newMap.nodes.forEach((position, newMapNode) -> {
-            if (nodes.containsKey(position)) {
+            if (index != NO_INDEX) {
                 // Update the GameMapNode(s) if already present...
-                GameMapNode mapNode = nodes.get(position);
-                boolean isNodeInSight = visiblePositions.contains(position);
+                GameMapNode mapNode = grid[index];
+                boolean wasUnvisited = mapNode.isUnvisited();
+                boolean isNodeInSight = cameraIndex != NO_INDEX
+                        && visibility.isInSight(cameraIndex, index);
+
+                boolean isChanged = mapNode.isChangedBy(newMapNode, isNodeInSight);
+
+                if (isChanged) {
+                    isAnyNodeCopied |= sharedNodeBoard.get(index);
+                    isAnyNodeChanged = true;
+                    mapNode = getWritableNodeAt(index);
+                }
 
                 mapNode.update(newMapNode, isNodeInSight);
+
+                if (isChanged) {
+                    bitboards.refresh(index, mapNode);
+                }
+
+                if (wasUnvisited && !mapNode.isUnvisited()) {
+                    visibility.markVisited(index);
+                    logVisit(index);
+                    isAnyNodeVisited = true;
+                }
             } else {
                 // ...but reset its intelligence if it wasn't present yet.
                 //    This is because the server provides a weaker version of intelligence states
                 //    for GameMapNodes and therefore we cannot rely on them initially.
                 newMapNode.resetIntelligence();
-                nodes.put(position, newMapNode);
+                addedMapNodes.add(newMapNode);
             }
-        });
+        }
+
+        if (isAnyNodeCopied) {
+            nodes = Arrays.stream(grid).filter(Objects::nonNull).toList();
+        }
+
+        if (!addedMapNodes.isEmpty()) {
+            unshareGrid();
+            growToFit(addedMapNodes.stream().map(GameMapNode::getPosition).toList());
+            addedMapNodes.forEach(mapNode -> grid[toIndex(area, mapNode.getPosition())] = mapNode);
+            collectNodes();
+        }
+
+        if (isAnyNodeChanged || !addedMapNodes.isEmpty()) {
+            ++version;
+        }
+
+        notifyDiscoveries(isAnyNodeVisited, hadTreasure, hadEnemyFort);
+    }
+
+    private void logVisit(int index) {
+        if (visitCount == visitLog.length) {
+            visitLog = Arrays.copyOf(visitLog, Math.max(1, 2 * visitLog.length));
+        }
+
+        visitLog[visitCount++] = index;
+    }
+
+    private void notifyDiscoveries(boolean isAnyNodeVisited, boolean hadTreasure,
+                                   boolean hadEnemyFort) {
+        if (isAnyNodeVisited) {
+            notifyObservers(DiscoveryEvent.NODE_VISITED);
+        }
+
+        if (!hadTreasure && anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT)) {
+            notifyObservers(DiscoveryEvent.TREASURE_SIGHTED);
+        }
+
+        if (!hadEnemyFort && anyMapNodeMatch(FortState.ENEMY_FORT_PRESENT)) {
+            notifyObservers(DiscoveryEvent.ENEMY_FORT_SIGHTED);
+        }
+    }
+
+    /**
+     * Returns an immutable view of the map as it is now, which planners can read without being
+     * affected by later updates.
+     * <p>
+     * Taking a snapshot does not copy anything: the snapshot shares all map nodes and lookup
+     * structures with the map, which copies them on write instead, i.e. the grid on the first
+     * update after a snapshot and each map node only when it actually changes. Snapshots taken
+     * while the map did not change are the same snapshot.
+     * <p>
+     * Snapshots are never written to, so they may be read on any thread once published, but
+     * must be taken on the thread updating the map (see {@link ConcurrentGameMap}).
+     *
+     * @return the snapshot of the map, or the map itself if it already is a snapshot
+     */
+    public GameMap snapshot() {
+        if (isSnapshot) {
+            return this;
+        }
+
+        if (latestSnapshot.filter(snapshot -> snapshot.version == version).isEmpty()) {
+            latestSnapshot = Optional.of(new GameMap(this));
+            sharedNodeBoard = bitboards.getNodeBoard();
+            isGridShared = true;
+        }
+
+        return latestSnapshot.orElseThrow();
+    }
+
+    public boolean isSnapshot() {
+        return isSnapshot;
+    }
+
+    /**
+     * Returns the number of updates, which changed any map node, since the map was created.
+     * <p>
+     * A snapshot keeps the version of the map it was taken of, so comparing versions tells
+     * whether a snapshot is still current.
+     *
+     * @return the version of the map
+     */
+    public long getVersion() {
+        return version;
     }
 
     public int getSize() {
@@ -88,18 +375,17 @@ public class GameMap {
     }
 
     public PositionArea getArea() {
-        Position minPosition = getPositions().stream().min(Position::compareTo).orElseThrow();
-        Position maxPosition = getPositions().stream().max(Position::compareTo).orElseThrow();
+        if (nodes.isEmpty()) {
+            throw new NoSuchElementException("Game map does not contain any map nodes");
+        }
 
-        return new PositionArea(minPosition, maxPosition);
+        return area;
     }
 
     public Set<Position> getPositions() {
-        return Collections.unmodifiableSet(nodes.keySet());
-    }
-
-    private Collection<Position> getPositions(Predicate<Position> predicate) {
-        return getPositions().stream().filter(predicate).toList();
+        return nodes.stream()
+                .map(GameMapNode::getPosition)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     public Collection<Position> getPositionsByMapNode(Predicate<GameMapNode> predicate) {
@@ -107,57 +393,266 @@ public class GameMap {
     }
 
     public Collection<Position> getPositionsInSight(Position cameraPosition) {
-        int cameraViewRadius = getNodeAt(cameraPosition)
-                .map(GameMapNode::getTerrainType)
-                .map(TerrainType::getViewRadius)
-                .orElse(-1);
+        Collection<Position> visiblePositions = new ArrayList<>();
+        int cameraIndex = indexOf(cameraPosition);
+
+        if (cameraIndex != NO_INDEX) {
+            visibility.forEachInSight(cameraIndex,
+                                      index -> visiblePositions.add(grid[index].getPosition()));
+        }
+
+        return visiblePositions;
+    }
+
+    /**
+     * Passes the grid index of every map node in sight of the map node at {@code cameraIndex}
+     * (including itself) to the {@code consumer}.
+     *
+     * @param cameraIndex the grid index of the viewing map node
+     * @param consumer the consumer of the visible grid indices
+     */
+    public void forEachIndexInSight(int cameraIndex, IntConsumer consumer) {
+        visibility.forEachInSight(cameraIndex, consumer);
+    }
+
+    /**
+     * Passes the grid index of every map node, which has the map node at {@code index} in sight
+     * (including itself), to the {@code consumer}, i.e. of every map node whose
+     * {@link #countUnvisitedInSight(int)} changes once the map node at {@code index} is visited.
+     *
+     * @param index the grid index of the viewed map node
+     * @param consumer the consumer of the viewing grid indices
+     */
+    public void forEachViewerIndex(int index, IntConsumer consumer) {
+        visibility.forEachViewer(index, consumer);
+    }
+
+    /**
+     * Returns the number of map nodes, which were visited through
+     * {@link #update(GameMap, Position)} since map nodes were last added to the map.
+     * <p>
+     * Adding map nodes restarts the count, so callers, which remember a visit count, have to
+     * notice a changed {@link #getSize()} and start over.
+     *
+     * @return the number of logged visits
+     */
+    public int getVisitCount() {
+        return visitCount;
+    }
+
+    /**
+     * Passes the grid index of every map node visited after the first {@code visitCount} visits
+     * (see {@link #getVisitCount()}) to the {@code consumer}, in the order they were visited.
+     *
+     * @param visitCount the number of visits already known to the caller
+     * @param consumer the consumer of the newly visited grid indices
+     */
+    public void forEachIndexVisitedSince(int visitCount, IntConsumer consumer) {
+        for (int i = visitCount; i < this.visitCount; ++i) {
+            consumer.accept(visitLog[i]);
+        }
+    }
 
-        Collection<Position> visiblePositions = getPositions(position -> {
-            int distance = cameraPosition.chebyshevDistanceTo(position);
+    /**
+     * Returns the grid indices of all map nodes in sight of the map node at {@code cameraIndex}
+     * (including itself) as a bitboard.
+     *
+     * @param cameraIndex the grid index of the viewing map node
+     * @return the visible grid indices
+     */
+    public Bitboard getVisibleBoard(int cameraIndex) {
+        Bitboard visibleBoard = new Bitboard(grid.length);
+        visibility.forEachInSight(cameraIndex, visibleBoard::set);
 
-            return distance <= cameraViewRadius;
-        });
+        return visibleBoard;
+    }
 
-        return new ArrayList<>(visiblePositions);
+    /**
+     * Returns the number of unvisited map nodes in sight of the map node at {@code index}.
+     * <p>
+     * The count is kept up to date by {@link #update(GameMap, Position)}, so this is a constant
+     * time lookup.
+     *
+     * @param index the grid index of the viewing map node
+     * @return the number of unvisited map nodes in sight
+     */
+    public int countUnvisitedInSight(int index) {
+        return visibility.countUnvisitedInSight(index);
     }
 
+    @Override
     public Optional<GameMapNode> getNodeAt(Position position) {
-        return Optional.ofNullable(nodes.get(position));
+        int index = indexOf(position);
+
+        return index == NO_INDEX ? Optional.empty() : Optional.of(grid[index]);
+    }
+
+    /**
+     * Returns the grid index of the map node at the given coordinates.
+     * <p>
+     * Indices are only stable as long as the map doesn't grow, i.e. no new map nodes are added
+     * during {@link #update(GameMap, Position)}, and therefore should not be kept across updates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the grid index, or {@code -1} if there is no map node at the coordinates
+     */
+    public int indexOf(int x, int y) {
+        boolean withinXBoundary = x >= area.x() && x < area.x() + area.width();
+        boolean withinYBoundary = y >= area.y() && y < area.y() + area.height();
+
+        if (!withinXBoundary || !withinYBoundary) {
+            return NO_INDEX;
+        }
+
+        int index = toIndex(area, x, y);
+
+        return grid[index] == null ? NO_INDEX : index;
     }
 
+    public int indexOf(Position position) {
+        return indexOf(position.x(), position.y());
+    }
+
+    /**
+     * Returns the number of grid slots, i.e. the exclusive upper bound of all grid indices.
+     * <p>
+     * This is useful to allocate index-based lookup arrays for the current map.
+     *
+     * @return the number of grid slots
+     */
+    public int getIndexBound() {
+        return grid.length;
+    }
+
+    public GameMapNode getNodeAtIndex(int index) {
+        return grid[index];
+    }
+
+    /**
+     * Returns the accessible neighbors of all map nodes compiled into a graph, which is built
+     * once and only rebuilt if map nodes are added.
+     *
+     * @return the compiled graph of the map
+     */
+    public AdjacencyGraph getAdjacencyGraph() {
+        return adjacencyGraph;
+    }
+
+    public TerrainType getTerrainTypeAt(int index) {
+        return grid[index].getTerrainType();
+    }
+
+    /**
+     * Returns the grid index of the neighboring map node in the given {@code direction} of the
+     * map node at {@code index}.
+     *
+     * @param index the grid index of the map node
+     * @param direction the direction of the neighbor
+     * @return the neighbor's grid index, or {@code -1} if there is no such neighbor
+     */
+    public int getNeighborIndex(int index, MapDirection direction) {
+        int x = index % area.width() + direction.getOffsetX();
+        int y = index / area.width() + direction.getOffsetY();
+
+        if (x < 0 || x >= area.width() || y < 0 || y >= area.height()) {
+            return NO_INDEX;
+        }
+
+        int neighborIndex = x + y * area.width();
+
+        return grid[neighborIndex] == null ? NO_INDEX : neighborIndex;
+    }
+
+    /**
+     * Returns the grid index of the neighboring map node in the given {@code direction} of the
+     * map node at {@code index}, if that neighbor is accessible.
+     *
+     * @param index the grid index of the map node
+     * @param direction the direction of the neighbor
+     * @return the neighbor's grid index, or {@code -1} if there is no such accessible neighbor
+     */
+    public int getReachableNeighborIndex(int index, MapDirection direction) {
+        int neighborIndex = getNeighborIndex(index, direction);
+
+        if (neighborIndex == NO_INDEX || !grid[neighborIndex].isAccessible()) {
+            return NO_INDEX;
+        }
+
+        return neighborIndex;
+    }
+
+    @Override
     public Collection<GameMapNode> getMapNodes() {
-        return Collections.unmodifiableCollection(nodes.values());
+        return nodes;
+    }
+
+    private Collection<GameMapNode> getMapNodes(Bitboard board) {
+        return board.stream().mapToObj(index -> grid[index]).toList();
     }
 
     private Collection<GameMapNode> getMapNodes(Stream<Position> positions) {
-        return positions.map(nodes::get).toList();
+        return positions.mapToInt(this::indexOf)
+                .filter(index -> index != NO_INDEX)
+                .mapToObj(index -> grid[index])
+                .toList();
     }
 
     public Collection<GameMapNode> getMapNodes(Predicate<GameMapNode> predicate) {
         return getMapNodes().stream().filter(predicate).toList();
     }
 
-    private Predicate<GameMapNode> getBorderPredicate(MapDirection direction) {
-        return mapNode -> getArea().getBorderPredicate(direction).test(mapNode.getPosition());
+    public Collection<GameMapNode> getBorderNodes(MapDirection direction) {
+        return Arrays.stream(bitboards.getBorderIndices(direction))
+                .mapToObj(index -> grid[index])
+                .toList();
     }
 
-    public Collection<GameMapNode> getBorderNodes(MapDirection direction) {
-        Predicate<GameMapNode> isOnBorder = getBorderPredicate(direction);
+    public int countBorderNodes(MapDirection direction) {
+        return bitboards.getBorderIndices(direction).length;
+    }
+
+    public int countAccessibleBorderNodes(MapDirection direction) {
+        Bitboard borderBoard = bitboards.getBorderBoard(direction);
 
-        return getMapNodes(isOnBorder);
+        return borderBoard.countIntersection(bitboards.getAccessibleBoard());
     }
 
-    private Collection<GameMapNode> getUnvisitedNodes() {
-        return getMapNodes().stream()
-                .filter(GameMapNode::isUnvisited)
-                .filter(GameMapNode::isAccessible)
+    public int countMapNodes(TerrainType terrainType) {
+        return bitboards.getTerrainBoard(terrainType).cardinality();
+    }
+
+    @Override
+    public Bitboard toBoard(GameMap map) {
+        if (map != this) {
+            return MapRegion.super.toBoard(map);
+        }
+
+        return bitboards.getNodeBoard();
+    }
+
+    /**
+     * Returns the grid indices of all grass map nodes, which have not been visited yet, as a
+     * copy of the bitboards kept current by {@link #update(GameMap, Position)}.
+     *
+     * @return the grid indices of the unvisited lootable map nodes
+     */
+    public Bitboard getUnvisitedLootableBoard() {
+        return new Bitboard(bitboards.getUnvisitedLootableBoard());
+    }
+
+    private Collection<GameMapNode> getUnvisitedNodes(Bitboard regionBoard) {
+        Bitboard unvisitedBoard = new Bitboard(bitboards.getUnvisitedAccessibleBoard());
+        unvisitedBoard.and(regionBoard);
+
+        return getMapNodes(unvisitedBoard).stream()
                 .sorted(new LootabilityComparator())
                 .toList();
     }
 
-    private Optional<Position> getRandomUnvisitedPosition() {
+    private Optional<Position> getRandomUnvisitedPosition(Bitboard regionBoard) {
         // TODO: Make 'random' to 'best' unvisited position OR parameterize randomness
-        List<GameMapNode> mapNodes = new ArrayList<>(getUnvisitedNodes().stream().toList());
+        List<GameMapNode> mapNodes = new ArrayList<>(getUnvisitedNodes(regionBoard));
         Collections.shuffle(mapNodes);
 
         return mapNodes.stream()
@@ -165,15 +660,27 @@ public class GameMap {
                 .map(GameMapNode::getPosition);
     }
 
-    public Optional<Position> getRandomUnvisitedDeadEndPosition() {
-        List<GameMapNode> mapNodes = getUnvisitedNodes().stream()
+    /**
+     * Same as {@link #getRandomUnvisitedDeadEndPosition()}, but only considers the map nodes at
+     * the grid indices of the {@code regionBoard}.
+     *
+     * @param regionBoard the grid indices to consider
+     * @return the unvisited dead end position, or a random unvisited one if there is none
+     */
+    Optional<Position> getRandomUnvisitedDeadEndPosition(Bitboard regionBoard) {
+        List<GameMapNode> mapNodes = getUnvisitedNodes(regionBoard).stream()
                 .sorted(new NeighborCountComparator(this))
                 .toList();
 
         return mapNodes.stream()
                 .findFirst()
                 .map(GameMapNode::getPosition)
-                .or(this::getRandomUnvisitedPosition);
+                .or(() -> getRandomUnvisitedPosition(regionBoard));
+    }
+
+    @Override
+    public Optional<Position> getRandomUnvisitedDeadEndPosition() {
+        return getRandomUnvisitedDeadEndPosition(bitboards.getNodeBoard());
     }
 
     public Optional<Position> getRandomNearbyLootablePosition(Position source) {
@@ -200,9 +707,26 @@ public class GameMap {
         return lootableNodes.stream().findFirst();
     }
 
+    private Optional<Position> getPositionAtIndex(int index) {
+        if (index == NO_INDEX) {
+            return Optional.empty();
+        }
+
+        return Optional.of(grid[index].getPosition());
+    }
+
     public Optional<Position> getPlayerFortPosition() {
-        return getMapNodes(GameMapNode::hasPlayerFort).stream().findFirst()
-                .map(GameMapNode::getPosition);
+        return getPositionAtIndex(bitboards.getFirstFortIndex(FortState.PLAYER_FORT_PRESENT));
+    }
+
+    public Optional<Position> getEnemyFortPosition() {
+        return getPositionAtIndex(bitboards.getFirstFortIndex(FortState.ENEMY_FORT_PRESENT));
+    }
+
+    public Optional<Position> getTreasurePosition() {
+        int treasureIndex = bitboards.getFirstTreasureIndex(TreasureState.PLAYER_TREASURE_PRESENT);
+
+        return getPositionAtIndex(treasureIndex);
     }
 
     private static GameMapNodeException providePlayerFortNotFoundException() {
@@ -223,12 +747,59 @@ public class GameMap {
         return new GameMap(getMapNodes(getArea().intoOtherHalfStream(playerFortPosition)));
     }
 
+    /**
+     * Returns the player's half map as a view on this map, which, unlike
+     * {@link #getPlayerHalfMap()}, does not copy any map nodes and is only created once.
+     *
+     * @return the view on the player's half map
+     */
+    public HalfMapView getPlayerHalfMapView() {
+        Optional<HalfMapView> halfMapView = playerHalfMapView;
+
+        if (halfMapView.isEmpty()) {
+            Position playerFortPosition = getPlayerFortPosition()
+                    .orElseThrow(GameMap::providePlayerFortNotFoundException);
+
+            halfMapView = Optional.of(new HalfMapView(
+                    this, getArea().getCurrentHalf(playerFortPosition)));
+            playerHalfMapView = halfMapView;
+        }
+
+        return halfMapView.orElseThrow();
+    }
+
+    /**
+     * Returns the enemy's half map as a view on this map, which, unlike
+     * {@link #getEnemyHalfMap()}, does not copy any map nodes and is only created once.
+     *
+     * @return the view on the enemy's half map
+     */
+    public HalfMapView getEnemyHalfMapView() {
+        Optional<HalfMapView> halfMapView = enemyHalfMapView;
+
+        if (halfMapView.isEmpty()) {
+            Position playerFortPosition = getPlayerFortPosition()
+                    .orElseThrow(GameMap::providePlayerFortNotFoundException);
+
+            halfMapView = Optional.of(new HalfMapView(
+                    this, getArea().getOtherHalf(playerFortPosition)));
+            enemyHalfMapView = halfMapView;
+        }
+
+        return halfMapView.orElseThrow();
+    }
+
     private Stream<GameMapNode> getNeighborsStream(Position position) {
+        int index = indexOf(position);
+
+        if (index == NO_INDEX) {
+            return Stream.empty();
+        }
+
         return Arrays.stream(MapDirection.values())
-                .map(position::stepInDirection)
-                .map(this::getNodeAt)
-                .filter(Optional::isPresent)
-                .map(Optional::get);
+                .mapToInt(direction -> getNeighborIndex(index, direction))
+                .filter(neighborIndex -> neighborIndex != NO_INDEX)
+                .mapToObj(neighborIndex -> grid[neighborIndex]);
     }
 
     public Set<GameMapNode> getAllNeighbors(Position position) {
@@ -246,6 +817,14 @@ public class GameMap {
         return getMapNodes().stream().anyMatch(predicate);
     }
 
+    public boolean anyMapNodeMatch(FortState fortState) {
+        return bitboards.getFirstFortIndex(fortState) != NO_INDEX;
+    }
+
+    public boolean anyMapNodeMatch(TreasureState treasureState) {
+        return bitboards.getFirstTreasureIndex(treasureState) != NO_INDEX;
+    }
+
     public boolean isFullMap() {
         return getSize() == FULL_MAP_SIZE;
     }
@@ -274,7 +853,7 @@ public class GameMap {
                 Position currentPosition = new Position(x, y);
                 Optional<GameMapNode> mapNode = getNodeAt(currentPosition);
 
-                if (!mapNode.isPresent()) {
+                if (mapNode.isEmpty()) {
                     stringBuilder.append(ANSIColor.format("a",
                                                           ANSIColor.BRIGHT_BLACK,
                                                           ANSIColor.BRIGHT_BLACK));
@@ -0,0 +1,231 @@
+package client.map;
+
+import java.util.Arrays;
+
+/**
+ * Bitboards over the grid indices of a {@link GameMap}, i.e. one {@link Bitboard} per
+ * {@link TerrainType}, {@link FortState}, {@link TreasureState} and map border.
+ * <p>
+ * Besides the bitboards, secondary indexes answer the most frequent queries without scanning:
+ * the unvisited accessible and unvisited grass map nodes are kept as bitboards of their own,
+ * the lowest grid index of each fort and treasure state is tracked (e.g. where the
+ * forts and the treasure are) and the grid indices along each border are listed.
+ * <p>
+ * The bitboards only reflect changes to map nodes that were made through
+ * {@link GameMap#update(GameMap, Position)}, which keeps them current via
+ * {@link #refresh(int, GameMapNode)}.
+ */
+class GameMapBitboards {
+
+    private static final int NO_INDEX = -1;
+
+    private final Bitboard[] terrainBoards;
+    private final Bitboard[] fortBoards;
+    private final Bitboard[] treasureBoards;
+    private final int[] firstFortIndices;
+    private final int[] firstTreasureIndices;
+    private final Bitboard unvisitedAccessibleBoard;
+    private final Bitboard unvisitedLootableBoard;
+
+    // The terrain and the borders never change, so copies share these
+    private final Bitboard[] borderBoards;
+    private final int[][] borderIndices;
+    private final Bitboard accessibleBoard;
+
+    GameMapBitboards(GameMapNode[] grid, PositionArea area) {
+        int size = grid.length;
+
+        this.terrainBoards = createBoards(TerrainType.values().length, size);
+        this.fortBoards = createBoards(FortState.values().length, size);
+        this.treasureBoards = createBoards(TreasureState.values().length, size);
+        this.firstFortIndices = createFirstIndices(FortState.values().length);
+        this.firstTreasureIndices = createFirstIndices(TreasureState.values().length);
+        this.unvisitedAccessibleBoard = new Bitboard(size);
+        this.unvisitedLootableBoard = new Bitboard(size);
+        this.borderBoards = createBoards(MapDirection.values().length, size);
+        this.borderIndices = new int[MapDirection.values().length][];
+        this.accessibleBoard = new Bitboard(size);
+
+        for (int index = 0; index < size; ++index) {
+            GameMapNode mapNode = grid[index];
+
+            if (mapNode == null) {
+                continue;
+            }
+
+            refresh(index, mapNode);
+            accessibleBoard.set(index, mapNode.isAccessible());
+
+            int x = index % area.width();
+            int y = index / area.width();
+
+            borderBoards[MapDirection.EAST.ordinal()].set(index, x == area.width() - 1);
+            borderBoards[MapDirection.NORTH.ordinal()].set(index, y == 0);
+            borderBoards[MapDirection.SOUTH.ordinal()].set(index, y == area.height() - 1);
+            borderBoards[MapDirection.WEST.ordinal()].set(index, x == 0);
+        }
+
+        for (MapDirection direction : MapDirection.values()) {
+            borderIndices[direction.ordinal()] = borderBoards[direction.ordinal()].stream()
+                    .toArray();
+        }
+    }
+
+    /**
+     * Copies all bitboards of {@code other}, such that refreshing the copy leaves the original
+     * unchanged.
+     *
+     * @param other the bitboards to copy
+     */
+    GameMapBitboards(GameMapBitboards other) {
+        this.terrainBoards = copyBoards(other.terrainBoards);
+        this.fortBoards = copyBoards(other.fortBoards);
+        this.treasureBoards = copyBoards(other.treasureBoards);
+        this.firstFortIndices = other.firstFortIndices.clone();
+        this.firstTreasureIndices = other.firstTreasureIndices.clone();
+        this.unvisitedAccessibleBoard = new Bitboard(other.unvisitedAccessibleBoard);
+        this.unvisitedLootableBoard = new Bitboard(other.unvisitedLootableBoard);
+        this.borderBoards = other.borderBoards;
+        this.borderIndices = other.borderIndices;
+        this.accessibleBoard = other.accessibleBoard;
+    }
+
+    private static int[] createFirstIndices(int count) {
+        int[] firstIndices = new int[count];
+        Arrays.fill(firstIndices, NO_INDEX);
+
+        return firstIndices;
+    }
+
+    private static Bitboard[] copyBoards(Bitboard[] boards) {
+        Bitboard[] copiedBoards = new Bitboard[boards.length];
+
+        for (int i = 0; i < boards.length; ++i) {
+            copiedBoards[i] = new Bitboard(boards[i]);
+        }
+
+        return copiedBoards;
+    }
+
+    private static Bitboard[] createBoards(int count, int size) {
+        Bitboard[] boards = new Bitboard[count];
+
+        for (int i = 0; i < count; ++i) {
+            boards[i] = new Bitboard(size);
+        }
+
+        return boards;
+    }
+
+    private static void moveTo(Bitboard[] boards, int index, int ordinal) {
+        for (Bitboard board : boards) {
+            board.clear(index);
+        }
+
+        boards[ordinal].set(index);
+    }
+
+    private static void refreshFirstIndices(Bitboard[] boards, int[] firstIndices, int index) {
+        for (int i = 0; i < boards.length; ++i) {
+            if (boards[i].get(index)) {
+                if (firstIndices[i] == NO_INDEX || index < firstIndices[i]) {
+                    firstIndices[i] = index;
+                }
+            } else if (firstIndices[i] == index) {
+                // No bit is set before the first index, so the next one is the new first index
+                firstIndices[i] = boards[i].nextSetBit(index + 1);
+            }
+        }
+    }
+
+    /**
+     * Re-reads the terrain, fort and treasure state of the map node at {@code index}.
+     *
+     * @param index the grid index of the map node
+     * @param mapNode the map node placed at the grid index
+     */
+    void refresh(int index, GameMapNode mapNode) {
+        moveTo(terrainBoards, index, mapNode.getTerrainType().ordinal());
+        moveTo(fortBoards, index, mapNode.getFortState().ordinal());
+        moveTo(treasureBoards, index, mapNode.getTreasureState().ordinal());
+
+        refreshFirstIndices(fortBoards, firstFortIndices, index);
+        refreshFirstIndices(treasureBoards, firstTreasureIndices, index);
+
+        unvisitedAccessibleBoard.set(index, mapNode.isUnvisited() && mapNode.isAccessible());
+        unvisitedLootableBoard.set(index, mapNode.isUnvisited() && mapNode.isLootable());
+    }
+
+    Bitboard getTerrainBoard(TerrainType terrainType) {
+        return terrainBoards[terrainType.ordinal()];
+    }
+
+    Bitboard getFortBoard(FortState fortState) {
+        return fortBoards[fortState.ordinal()];
+    }
+
+    Bitboard getTreasureBoard(TreasureState treasureState) {
+        return treasureBoards[treasureState.ordinal()];
+    }
+
+    Bitboard getBorderBoard(MapDirection direction) {
+        return borderBoards[direction.ordinal()];
+    }
+
+    /**
+     * Returns the grid indices of all map nodes along the border in {@code direction}.
+     *
+     * @param direction the border's direction
+     * @return the ascending grid indices, which must not be changed
+     */
+    int[] getBorderIndices(MapDirection direction) {
+        return borderIndices[direction.ordinal()];
+    }
+
+    /**
+     * Returns the lowest grid index of all map nodes with the {@code fortState}.
+     *
+     * @param fortState the fort state to look for
+     * @return the lowest grid index, or {@code -1} if no map node has the fort state
+     */
+    int getFirstFortIndex(FortState fortState) {
+        return firstFortIndices[fortState.ordinal()];
+    }
+
+    /**
+     * Returns the lowest grid index of all map nodes with the {@code treasureState}.
+     *
+     * @param treasureState the treasure state to look for
+     * @return the lowest grid index, or {@code -1} if no map node has the treasure state
+     */
+    int getFirstTreasureIndex(TreasureState treasureState) {
+        return firstTreasureIndices[treasureState.ordinal()];
+    }
+
+    Bitboard getUnvisitedAccessibleBoard() {
+        return unvisitedAccessibleBoard;
+    }
+
+    Bitboard getUnvisitedLootableBoard() {
+        return unvisitedLootableBoard;
+    }
+
+    Bitboard getAccessibleBoard() {
+        return accessibleBoard;
+    }
+
+    /**
+     * Returns the grid indices of all map nodes, whatever their terrain.
+     *
+     * @return a new bitboard of all occupied grid indices
+     */
+    Bitboard getNodeBoard() {
+        Bitboard nodeBoard = new Bitboard(accessibleBoard.size());
+
+        for (Bitboard terrainBoard : terrainBoards) {
+            nodeBoard.or(terrainBoard);
+        }
+
+        return nodeBoard;
+    }
+}
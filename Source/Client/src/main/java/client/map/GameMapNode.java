@@ -66,30 +66,51 @@ public class GameMapNode implements Comparable<GameMapNode> {
         throw new IllegalArgumentException(errorMessage);
     }
 
-    private void updateFortState(FortState newFortState, boolean isNodeInSight) {
+    private boolean isFortStateUpdate(FortState newFortState, boolean isNodeInSight) {
         // Once the fort state is known, it will be the same
         if (fortState != FortState.UNKNOWN) {
-            return;
+            return false;
         }
 
         // We can only trust fort state changes, when the node is in sight
-        if (isNodeInSight && fortState != newFortState) {
-            fortState = newFortState;
-        }
+        return isNodeInSight && fortState != newFortState;
     }
 
-    private void updateTreasureState(TreasureState newTreasureState, boolean isNodeInSight) {
+    private boolean isTreasureStateUpdate(TreasureState newTreasureState, boolean isNodeInSight) {
         // Once the treasure state is known, it will be the same
         if (treasureState != TreasureState.UNKNOWN) {
-            return;
+            return false;
         }
 
         // We can only trust treasure state changes, when the node is in sight
-        if (isNodeInSight && treasureState != newTreasureState) {
+        return isNodeInSight && treasureState != newTreasureState;
+    }
+
+    private void updateFortState(FortState newFortState, boolean isNodeInSight) {
+        if (isFortStateUpdate(newFortState, isNodeInSight)) {
+            fortState = newFortState;
+        }
+    }
+
+    private void updateTreasureState(TreasureState newTreasureState, boolean isNodeInSight) {
+        if (isTreasureStateUpdate(newTreasureState, isNodeInSight)) {
             treasureState = newTreasureState;
         }
     }
 
+    /**
+     * Returns whether {@link #update(GameMapNode, boolean)} would change the intelligence on the
+     * GameMapNode, without changing it.
+     *
+     * @param newGameMapNode the GameMapNode to update with
+     * @param isNodeInSight whether the GameMapNode is in sight of the player
+     * @return whether the fort or treasure state would change
+     */
+    public boolean isChangedBy(GameMapNode newGameMapNode, boolean isNodeInSight) {
+        return isFortStateUpdate(newGameMapNode.fortState, isNodeInSight)
+                || isTreasureStateUpdate(newGameMapNode.treasureState, isNodeInSight);
+    }
+
     public void update(GameMapNode newGameMapNode, boolean isNodeInSight) {
         if (!position.equals(newGameMapNode.position)) {
             throwOnInvalidUpdatePosition(newGameMapNode);
@@ -179,6 +200,14 @@ public class GameMapNode implements Comparable<GameMapNode> {
         return terrainType;
     }
 
+    public FortState getFortState() {
+        return fortState;
+    }
+
+    public TreasureState getTreasureState() {
+        return treasureState;
+    }
+
     public boolean isAccessible() {
         return terrainType == TerrainType.GRASS || terrainType == TerrainType.MOUNTAIN;
     }
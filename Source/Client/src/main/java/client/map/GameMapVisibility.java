@@ -0,0 +1,141 @@
+package client.map;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Line-of-sight index over the grid indices of a {@link GameMap}, which knows for every map node
+ * which other map nodes are in sight (see {@link TerrainType#getViewRadius()}) and how many of
+ * those are still unvisited.
+ * <p>
+ * The unvisited counters are only kept current for map nodes, which were visited through
+ * {@link GameMap#update(GameMap, Position)}, which reports them via {@link #markVisited(int)}.
+ */
+class GameMapVisibility {
+
+    private static final int MAX_VIEW_RADIUS = Arrays.stream(TerrainType.values())
+            .mapToInt(TerrainType::getViewRadius)
+            .max()
+            .orElse(0);
+
+    private final GameMapNode[] grid;
+    private final int width;
+    private final int height;
+    private final int[] viewRadii;
+    private final int[] unvisitedInSight;
+
+    GameMapVisibility(GameMapNode[] grid, PositionArea area) {
+        this.grid = grid;
+        this.width = area.width();
+        this.height = area.height();
+        this.viewRadii = new int[grid.length];
+        this.unvisitedInSight = new int[grid.length];
+
+        for (int index = 0; index < grid.length; ++index) {
+            GameMapNode mapNode = grid[index];
+
+            viewRadii[index] = mapNode == null ? -1 : mapNode.getTerrainType().getViewRadius();
+        }
+
+        for (int index = 0; index < grid.length; ++index) {
+            int cameraIndex = index;
+
+            forEachInSight(cameraIndex, visibleIndex -> {
+                if (grid[visibleIndex].isUnvisited()) {
+                    ++unvisitedInSight[cameraIndex];
+                }
+            });
+        }
+    }
+
+    /**
+     * Copies the unvisited counters of {@code other} onto the {@code grid}, which must hold the
+     * same terrain at the same grid indices, such that marking the copy leaves the original
+     * unchanged. The view radii never change and are shared.
+     *
+     * @param other the visibility to copy
+     * @param grid the grid the copy belongs to
+     */
+    GameMapVisibility(GameMapVisibility other, GameMapNode[] grid) {
+        this.grid = grid;
+        this.width = other.width;
+        this.height = other.height;
+        this.viewRadii = other.viewRadii;
+        this.unvisitedInSight = other.unvisitedInSight.clone();
+    }
+
+    private int chebyshevDistance(int index, int otherIndex) {
+        int dx = Math.abs(index % width - otherIndex % width);
+        int dy = Math.abs(index / width - otherIndex / width);
+
+        return Math.max(dx, dy);
+    }
+
+    private void forEachWithin(int index, int radius, IntConsumer consumer) {
+        int x = index % width;
+        int y = index / width;
+
+        int minX = Math.max(0, x - radius);
+        int maxX = Math.min(width - 1, x + radius);
+        int minY = Math.max(0, y - radius);
+        int maxY = Math.min(height - 1, y + radius);
+
+        for (int otherY = minY; otherY <= maxY; ++otherY) {
+            for (int otherX = minX; otherX <= maxX; ++otherX) {
+                int otherIndex = otherX + otherY * width;
+
+                if (grid[otherIndex] != null) {
+                    consumer.accept(otherIndex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the grid index of every map node in sight of the map node at {@code cameraIndex}
+     * (including itself) to the {@code consumer}.
+     *
+     * @param cameraIndex the grid index of the viewing map node
+     * @param consumer the consumer of the visible grid indices
+     */
+    void forEachInSight(int cameraIndex, IntConsumer consumer) {
+        if (viewRadii[cameraIndex] < 0) {
+            return;
+        }
+
+        forEachWithin(cameraIndex, viewRadii[cameraIndex], consumer);
+    }
+
+    boolean isInSight(int cameraIndex, int index) {
+        return chebyshevDistance(cameraIndex, index) <= viewRadii[cameraIndex];
+    }
+
+    int countUnvisitedInSight(int cameraIndex) {
+        return unvisitedInSight[cameraIndex];
+    }
+
+    /**
+     * Passes the grid index of every map node, which has the map node at {@code index} in sight
+     * (including itself), to the {@code consumer}.
+     *
+     * @param index the grid index of the viewed map node
+     * @param consumer the consumer of the viewing grid indices
+     */
+    void forEachViewer(int index, IntConsumer consumer) {
+        forEachWithin(index, MAX_VIEW_RADIUS, cameraIndex -> {
+            if (isInSight(cameraIndex, index)) {
+                consumer.accept(cameraIndex);
+            }
+        });
+    }
+
+    /**
+     * Decrements the unvisited counter of every map node, which has the newly visited map node
+     * at {@code index} in sight.
+     *
+     * @param index the grid index of the newly visited map node
+     */
+    void markVisited(int index) {
+        forEachViewer(index, cameraIndex -> --unvisitedInSight[cameraIndex]);
+    }
+}
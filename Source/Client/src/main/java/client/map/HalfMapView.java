@@ -0,0 +1,76 @@
+package client.map;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A window over the map nodes of a {@link GameMap}, which lie within the bounds of one of its
+ * halves, e.g. the player's or the enemy's half map.
+ * <p>
+ * The view does not copy any map nodes, but only remembers the grid indices within its bounds,
+ * and reads the map nodes from its map on demand. It therefore always reflects the current
+ * intelligence of the map, but, like grid indices, only stays valid as long as no map nodes are
+ * added to the map.
+ */
+public class HalfMapView implements MapRegion {
+
+    private final GameMap map;
+    private final PositionArea area;
+    private final Bitboard board;
+
+    HalfMapView(GameMap map, PositionArea area) {
+        this.map = map;
+        this.area = area;
+        this.board = new Bitboard(map.getIndexBound());
+
+        for (int y = area.y(); y < area.y() + area.height(); ++y) {
+            for (int x = area.x(); x < area.x() + area.width(); ++x) {
+                int index = map.indexOf(x, y);
+
+                if (index >= 0) {
+                    board.set(index);
+                }
+            }
+        }
+    }
+
+    public boolean isViewOn(GameMap otherMap) {
+        return map == otherMap;
+    }
+
+    public PositionArea getArea() {
+        return area;
+    }
+
+    public int getSize() {
+        return board.cardinality();
+    }
+
+    @Override
+    public Collection<GameMapNode> getMapNodes() {
+        return board.stream().mapToObj(map::getNodeAtIndex).toList();
+    }
+
+    @Override
+    public Optional<GameMapNode> getNodeAt(Position position) {
+        if (area.isOutside(position)) {
+            return Optional.empty();
+        }
+
+        return map.getNodeAt(position);
+    }
+
+    @Override
+    public Optional<Position> getRandomUnvisitedDeadEndPosition() {
+        return map.getRandomUnvisitedDeadEndPosition(board);
+    }
+
+    @Override
+    public Bitboard toBoard(GameMap otherMap) {
+        if (!isViewOn(otherMap)) {
+            return MapRegion.super.toBoard(otherMap);
+        }
+
+        return new Bitboard(board);
+    }
+}
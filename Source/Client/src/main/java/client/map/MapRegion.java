@@ -0,0 +1,41 @@
+package client.map;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A part of the map, which the stages search in, e.g. a whole {@link GameMap} or a
+ * {@link HalfMapView} of one.
+ */
+public interface MapRegion {
+
+    Collection<GameMapNode> getMapNodes();
+
+    Optional<GameMapNode> getNodeAt(Position position);
+
+    Optional<Position> getRandomUnvisitedDeadEndPosition();
+
+    default boolean contains(Position position) {
+        return getNodeAt(position).isPresent();
+    }
+
+    /**
+     * Returns the grid indices of the {@code map}, whose map nodes are part of this region.
+     *
+     * @param map the map whose grid indices to return
+     * @return the grid indices of the region's map nodes within the map
+     */
+    default Bitboard toBoard(GameMap map) {
+        Bitboard board = new Bitboard(map.getIndexBound());
+
+        for (GameMapNode mapNode : getMapNodes()) {
+            int index = map.indexOf(mapNode.getPosition());
+
+            if (index >= 0) {
+                board.set(index);
+            }
+        }
+
+        return board;
+    }
+}
@@ -33,18 +33,40 @@ public record PositionArea(int x, int y, int width, int height) {
         }
     }
 
-    private Stream<Position> intoHalfStream(MapDirection directionFromMiddle) {
+    private PositionArea intoHalf(MapDirection directionFromMiddle) {
         int halfWidth = width / 2;
         int halfHeight = height / 2;
 
-        PositionArea halfMapArea = switch (directionFromMiddle) {
+        return switch (directionFromMiddle) {
             case EAST -> new PositionArea(x + halfWidth, y, halfWidth, height);
             case NORTH -> new PositionArea(x, y, width, halfHeight);
             case SOUTH -> new PositionArea(x, y + halfHeight, width, halfHeight);
             case WEST -> new PositionArea(x, y, halfWidth, height);
         };
+    }
 
-        return halfMapArea.intoStream();
+    /**
+     * Returns the current half of the area, i.e. the half in which the specified
+     * {@code position} is located in.
+     *
+     * @param position position inside of the half area
+     * @return half area that position is located in
+     * @see #intoCurrentHalfStream(Position)
+     */
+    public PositionArea getCurrentHalf(Position position) {
+        return intoHalf(getDirectionFromMiddle(position));
+    }
+
+    /**
+     * Returns the other half of the area, i.e. the half opposite of the one in which the
+     * specified {@code position} is located in.
+     *
+     * @param position position opposite of the half area
+     * @return opposite half area to the area that position is located in
+     * @see #intoOtherHalfStream(Position)
+     */
+    public PositionArea getOtherHalf(Position position) {
+        return intoHalf(getDirectionFromMiddle(position).getOpposite());
     }
 
     /**
@@ -58,9 +80,7 @@ public record PositionArea(int x, int y, int width, int height) {
      * @return half area that position is located in
      */
     public Stream<Position> intoCurrentHalfStream(Position position) {
-        MapDirection directionFromMiddle = getDirectionFromMiddle(position);
-
-        return intoHalfStream(directionFromMiddle);
+        return getCurrentHalf(position).intoStream();
     }
 
     /**
@@ -74,10 +94,7 @@ public record PositionArea(int x, int y, int width, int height) {
      * @return opposite half area to the area that position is located in
      */
     public Stream<Position> intoOtherHalfStream(Position position) {
-        MapDirection directionToMiddle = getDirectionFromMiddle(position).getOpposite();
-
-        // By providing the opposite, we get the other half instead of the current half
-        return intoHalfStream(directionToMiddle);
+        return getOtherHalf(position).intoStream();
     }
 
     private boolean isInside(Position position) {
@@ -2,6 +2,7 @@ package client.map.comparator;
 
 import java.util.Comparator;
 
+import client.map.AdjacencyGraph;
 import client.map.GameMap;
 import client.map.GameMapNode;
 
@@ -15,8 +16,9 @@ public class NeighborCountComparator implements Comparator<GameMapNode> {
 
     @Override
     public int compare(GameMapNode o1, GameMapNode o2) {
-        int aNeighborCount = map.getReachableNeighbors(o1.getPosition()).size();
-        int bNeighborCount = map.getReachableNeighbors(o2.getPosition()).size();
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        int aNeighborCount = graph.getDegree(map.indexOf(o1.getPosition()));
+        int bNeighborCount = graph.getDegree(map.indexOf(o2.getPosition()));
 
         return bNeighborCount - aNeighborCount;
     }
@@ -7,11 +7,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import client.map.DiscoveryEvent;
 import client.map.Position;
 import client.util.ANSIColor;
+import client.util.Observable;
 import messagesbase.messagesfromserver.PlayerState;
 
-public class Player {
+public class Player extends Observable<DiscoveryEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(Player.class);
 
@@ -90,8 +92,14 @@ public class Player {
         logUpdateChanges(newPlayer);
         updatePosition(newPlayer.position);
 
+        boolean hasCollectedTreasure = !hasTreasure && newPlayer.hasTreasure;
+
         state = newPlayer.state;
         hasTreasure = newPlayer.hasTreasure;
+
+        if (hasCollectedTreasure) {
+            notifyObservers(DiscoveryEvent.TREASURE_COLLECTED);
+        }
     }
 
     private String getHandle() {
@@ -1,20 +1,21 @@
 package client.search;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.SequencedCollection;
+import java.util.function.Predicate;
 
 import client.main.GameClientState;
+import client.map.AdjacencyGraph;
 import client.map.GameMap;
 import client.map.GameMapNode;
 import client.map.MapDirection;
+import client.map.MapRegion;
 import client.map.Path;
 import client.map.Position;
 import client.map.TerrainType;
@@ -26,117 +27,191 @@ public class AStarPathFinder implements PathFinder {
     private final GameMap map;
 
     public AStarPathFinder(GameMap map) {
-        this.map = new GameMap(map.getMapNodes());
+        this.map = map.snapshot();
+    }
+
+    /**
+     * Returns the directions to walk from the player's position to {@code destination} along
+     * the path found by {@code pathFinder}.
+     *
+     * @param clientState the current game state
+     * @param destination the position to walk to
+     * @param pathFinder the path finder to search the path with
+     * @return the directions to walk to the destination
+     */
+    public static List<MapDirection> getWalkTo(GameClientState clientState, Position destination,
+                                               PathFinder pathFinder) {
+        Path path = pathFinder.findPath(clientState.getPlayerPosition(), destination);
+
+        return path.intoMapDirections(clientState.getMap());
     }
 
     public static List<MapDirection> getDirectWalkTo(GameClientState clientState,
                                                      Position destination) {
         GameMap map = clientState.getMap();
-        PathFinder pathFinder = new AStarPathFinder(map);
-        Path path = pathFinder.findPath(clientState.getPlayerPosition(), destination);
+        PathFinder pathFinder = clientState.getDistanceOracle()
+                .<PathFinder>map(distanceOracle -> distanceOracle)
+                .orElseGet(() -> new IndexedAStarPathFinder(map));
 
-        return path.intoMapDirections(map);
+        return getWalkTo(clientState, destination, pathFinder);
     }
 
     public static List<MapDirection> getWalkToUnvisitedMapNode(GameClientState clientState,
-                                                               GameMap haystackMap) {
+                                                               MapRegion haystackMap,
+                                                               PathFinder pathFinder) {
         GameMap map = clientState.getMap();
         Position source = clientState.getPlayerPosition();
         Position destination = map.getRandomNearbyLootablePosition(source)
                 .or(haystackMap::getRandomUnvisitedDeadEndPosition)
                 .orElseThrow();
-        PathFinder pathFinder = new AStarPathFinder(map);
-        Path path = pathFinder.findPath(source, destination);
 
-        return path.intoMapDirections(map);
+        return getWalkTo(clientState, destination, pathFinder);
+    }
+
+    private static boolean isExplorationGoal(GameClientState clientState, MapRegion haystackMap,
+                                             Position goal) {
+        return !goal.equals(clientState.getPlayerPosition())
+                && haystackMap.contains(goal)
+                && clientState.getMap().getNodeAt(goal)
+                        .filter(GameMapNode::isUnvisited)
+                        .filter(GameMapNode::isAccessible)
+                        .isPresent()
+                && clientState.isReachableByPlayer(goal);
+    }
+
+    /**
+     * Returns the unvisited map node of the {@code haystackMap} to explore towards, which stays
+     * the {@code currentGoal} until it is visited or ruled out. Incremental path finders, like the
+     * {@link DStarLitePathFinder}, thus keep searching towards the same destination across turns
+     * and only repair their search tree, while their travel costs already lead the walk past
+     * unvisited map nodes.
+     * <p>
+     * A new goal is an unvisited dead end of the {@code haystackMap}, which is usually further
+     * away than a nearby unvisited map node and thus stays the goal for several turns.
+     *
+     * @param clientState the current game state
+     * @param haystackMap the part of the map to explore
+     * @param currentGoal the goal explored towards so far
+     * @return the goal to explore towards, or nothing if nothing is left to explore
+     */
+    public static Optional<Position> selectExplorationGoal(GameClientState clientState,
+                                                           MapRegion haystackMap,
+                                                           Optional<Position> currentGoal) {
+        Predicate<Position> isGoal = goal -> isExplorationGoal(clientState, haystackMap, goal);
+
+        return currentGoal.filter(isGoal)
+                .or(() -> haystackMap.getRandomUnvisitedDeadEndPosition().filter(isGoal))
+                .or(() -> clientState.getMap()
+                        .getRandomNearbyLootablePosition(clientState.getPlayerPosition()));
     }
 
-    private static Comparator<GameMapNode> getCostComparator(Map<Position, Integer> costToEndNode) {
+    public static List<MapDirection> getWalkToUnvisitedMapNode(GameClientState clientState,
+                                                               MapRegion haystackMap) {
+        PathFinder pathFinder = new IndexedAStarPathFinder(clientState.getMap());
+
+        return getWalkToUnvisitedMapNode(clientState, haystackMap, pathFinder);
+    }
+
+    private Comparator<GameMapNode> getCostComparator(int[] costToEndNode) {
         return (a, b) -> {
-            int aCostToEnd = costToEndNode.getOrDefault(a.getPosition(), Integer.MAX_VALUE);
-            int bCostToEnd = costToEndNode.getOrDefault(b.getPosition(), Integer.MAX_VALUE);
+            int aCostToEnd = costToEndNode[map.indexOf(a.getPosition())];
+            int bCostToEnd = costToEndNode[map.indexOf(b.getPosition())];
 
             return aCostToEnd - bCostToEnd;
         };
     }
 
-    private static int computeRemainingCost(Position source, Position destination) {
+    static int computeRemainingCost(Position source, Position destination) {
         return source.taxicabDistanceTo(destination);
     }
 
-    private int computeTravelCost(GameMapNode from, GameMapNode to) {
-        int totalCost = 3 * TerrainType.computeTravelCost(from.getTerrainType(),
-                                                          to.getTerrainType());
+    static int computeTravelCost(GameMap map, int fromIndex, int toIndex) {
+        int terrainCost = TerrainType.computeTravelCost(map.getTerrainTypeAt(fromIndex),
+                                                        map.getTerrainTypeAt(toIndex));
+
+        return computeEdgeCost(map, terrainCost, toIndex);
+    }
+
+    /**
+     * Weighs an edge of the {@link AdjacencyGraph}, whose terrain travel cost is already known,
+     * the same way as {@link #computeTravelCost(GameMap, int, int)}.
+     */
+    static int computeEdgeCost(GameMap map, int terrainCost, int toIndex) {
+        int totalCost = 3 * terrainCost;
 
-        Collection<Position> visiblePositions = map.getPositionsInSight(to.getPosition());
-        long explorationValue = visiblePositions.stream()
-                .map(map::getNodeAt)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .filter(GameMapNode::isUnvisited)
-                .count();
+        int explorationValue = map.countUnvisitedInSight(toIndex);
 
-        totalCost -= (int) explorationValue;
+        totalCost -= explorationValue;
 
         return Math.min(0, totalCost);
     }
 
-    private static Path reconstructPath(Position source, Position destination,
-                                        Map<Position, Position> cameFrom) {
-        SequencedCollection<Position> pathNodes = new ArrayList<>(cameFrom.size() + 1);
+    private Path reconstructPath(int sourceIndex, int destinationIndex, int[] cameFrom) {
+        SequencedCollection<Position> pathNodes = new ArrayList<>();
 
-        Position currentPosition = destination;
+        int currentIndex = destinationIndex;
 
-        while (currentPosition != source) {
-            pathNodes.add(currentPosition);
-            currentPosition = cameFrom.get(currentPosition);
+        while (currentIndex != sourceIndex) {
+            pathNodes.add(map.getNodeAtIndex(currentIndex).getPosition());
+            currentIndex = cameFrom[currentIndex];
         }
 
+        pathNodes.add(map.getNodeAtIndex(sourceIndex).getPosition());
+
         return new Path(pathNodes.reversed());
     }
 
     @Override
     public Path findPath(Position source, Position destination) {
-        Map<Position, Integer> costToStartNode = HashMap.newHashMap(map.getSize());
-        Map<Position, Integer> costToEndNode = HashMap.newHashMap(map.getSize());
+        int sourceIndex = map.indexOf(source);
+        int destinationIndex = map.indexOf(destination);
+
+        if (sourceIndex == -1 || destinationIndex == -1) {
+            throw new PathNotFoundException(source, destination);
+        }
+
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        int[] costToStartNode = new int[map.getIndexBound()];
+        int[] costToEndNode = new int[map.getIndexBound()];
+        int[] cameFrom = new int[map.getIndexBound()];
+
+        Arrays.fill(costToStartNode, Integer.MAX_VALUE);
+        Arrays.fill(costToEndNode, Integer.MAX_VALUE);
 
         Queue<GameMapNode> openSet = new PriorityQueue<>(DIRECTION_COUNT + 1,
                                                          getCostComparator(costToEndNode));
-        openSet.add(map.getNodeAt(source).orElseThrow());
+        openSet.add(map.getNodeAtIndex(sourceIndex));
 
-        Map<Position, Position> cameFrom = new HashMap<>();
-        cameFrom.put(source, source);
+        cameFrom[sourceIndex] = sourceIndex;
 
-        costToStartNode.put(source, 0);
-        costToEndNode.put(source, computeRemainingCost(source, destination));
+        costToStartNode[sourceIndex] = 0;
+        costToEndNode[sourceIndex] = computeRemainingCost(source, destination);
 
         while (!openSet.isEmpty()) {
             GameMapNode currentNode = openSet.remove();
-            Position currentPosition = currentNode.getPosition();
+            int currentIndex = map.indexOf(currentNode.getPosition());
 
-            if (currentPosition.equals(destination)) {
-                return reconstructPath(source, destination, cameFrom);
+            if (currentIndex == destinationIndex) {
+                return reconstructPath(sourceIndex, destinationIndex, cameFrom);
             }
 
-            Collection<GameMapNode> neighborNodes = map.getReachableNeighbors(currentPosition);
-
-            for (GameMapNode neighborNode : neighborNodes) {
-                Position neighborPosition = neighborNode.getPosition();
-
-                int moveCost = computeTravelCost(currentNode, neighborNode);
-                int travelCost = costToStartNode.get(currentPosition) + moveCost;
+            for (int edge = graph.getFirstEdge(currentIndex);
+                 edge < graph.getLastEdge(currentIndex); ++edge) {
+                int neighborIndex = graph.getNeighbor(edge);
+                GameMapNode neighborNode = map.getNodeAtIndex(neighborIndex);
 
-                int minTravelCost = costToStartNode.getOrDefault(neighborPosition,
-                                                                 Integer.MAX_VALUE);
+                int moveCost = computeEdgeCost(map, graph.getTravelCost(edge), neighborIndex);
+                int travelCost = costToStartNode[currentIndex] + moveCost;
 
-                if (travelCost < minTravelCost) {
-                    int remainingCost = computeRemainingCost(neighborPosition, destination);
+                if (travelCost < costToStartNode[neighborIndex]) {
+                    int remainingCost = computeRemainingCost(neighborNode.getPosition(),
+                                                             destination);
                     int totalTravelCost = travelCost + remainingCost;
 
-                    costToStartNode.put(neighborPosition, travelCost);
-                    costToEndNode.put(neighborPosition, totalTravelCost);
+                    costToStartNode[neighborIndex] = travelCost;
+                    costToEndNode[neighborIndex] = totalTravelCost;
 
-                    cameFrom.put(neighborPosition, currentPosition);
+                    cameFrom[neighborIndex] = currentIndex;
                     openSet.add(neighborNode);
                 }
             }
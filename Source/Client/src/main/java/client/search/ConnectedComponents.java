@@ -0,0 +1,205 @@
+package client.search;
+
+import java.util.Arrays;
+
+import client.map.AdjacencyGraph;
+import client.map.GameMap;
+import client.map.Position;
+
+/**
+ * Labels the accessible map nodes of a {@link GameMap} with the connected component they belong
+ * to, such that reachability between any two map nodes is answered by comparing two labels.
+ * <p>
+ * The components are computed with a union-find over the grid indices, joining each accessible
+ * map node with its accessible neighbors along the edges of the map's {@link AdjacencyGraph}.
+ * Both finding and joining work in loops, so even maps with millions of map nodes are labeled
+ * without growing the call stack.
+ * <p>
+ * As the terrain of a map node never changes, the labels stay valid as long as no map nodes
+ * are added to the map.
+ */
+public class ConnectedComponents {
+
+    private static final int NO_INDEX = -1;
+    private static final int NO_COMPONENT = -1;
+
+    private final GameMap map;
+    private final int[] componentIds;
+    private final int[] componentSizes;
+
+    private ConnectedComponents(GameMap map, int[] componentIds, int[] componentSizes) {
+        this.map = map;
+        this.componentIds = componentIds;
+        this.componentSizes = componentSizes;
+    }
+
+    private static int findRoot(int[] parents, int index) {
+        while (parents[index] != index) {
+            // Path halving: skip every other node on the way up
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+
+        return index;
+    }
+
+    private static void join(int[] parents, int[] sizes, int index, int otherIndex) {
+        int root = findRoot(parents, index);
+        int otherRoot = findRoot(parents, otherIndex);
+
+        if (root == otherRoot) {
+            return;
+        }
+
+        // Union by size keeps the trees shallow
+        if (sizes[root] < sizes[otherRoot]) {
+            int swappedRoot = root;
+            root = otherRoot;
+            otherRoot = swappedRoot;
+        }
+
+        parents[otherRoot] = root;
+        sizes[root] += sizes[otherRoot];
+    }
+
+    private static boolean isAccessible(GameMap map, int index) {
+        return map.getNodeAtIndex(index) != null && map.getNodeAtIndex(index).isAccessible();
+    }
+
+    /**
+     * Labels all accessible map nodes of the {@code map} with their connected component.
+     *
+     * @param map the map to label
+     * @return the connected components of the map
+     */
+    public static ConnectedComponents fromMap(GameMap map) {
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        int indexBound = map.getIndexBound();
+        int[] parents = new int[indexBound];
+        int[] sizes = new int[indexBound];
+
+        Arrays.fill(parents, NO_INDEX);
+
+        for (int index = 0; index < indexBound; ++index) {
+            if (isAccessible(map, index)) {
+                parents[index] = index;
+                sizes[index] = 1;
+            }
+        }
+
+        for (int index = 0; index < indexBound; ++index) {
+            if (parents[index] == NO_INDEX) {
+                continue;
+            }
+
+            for (int edge = graph.getFirstEdge(index); edge < graph.getLastEdge(index); ++edge) {
+                int neighborIndex = graph.getNeighbor(edge);
+
+                // Every edge is contained in both directions, so only join it once
+                if (neighborIndex > index) {
+                    join(parents, sizes, index, neighborIndex);
+                }
+            }
+        }
+
+        // Number the roots consecutively, so the sizes fit into a dense array
+        int[] componentIds = new int[indexBound];
+        int[] rootComponentIds = new int[indexBound];
+        int componentCount = 0;
+
+        Arrays.fill(componentIds, NO_COMPONENT);
+        Arrays.fill(rootComponentIds, NO_COMPONENT);
+
+        for (int index = 0; index < indexBound; ++index) {
+            if (parents[index] == index) {
+                rootComponentIds[index] = componentCount++;
+            }
+        }
+
+        int[] componentSizes = new int[componentCount];
+
+        for (int index = 0; index < indexBound; ++index) {
+            if (parents[index] != NO_INDEX) {
+                int root = findRoot(parents, index);
+                componentIds[index] = rootComponentIds[root];
+                componentSizes[componentIds[index]] = sizes[root];
+            }
+        }
+
+        return new ConnectedComponents(map, componentIds, componentSizes);
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; ++i) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public int getComponentCount() {
+        return componentSizes.length;
+    }
+
+    /**
+     * Returns the label of the connected component, which the map node at {@code index}
+     * belongs to.
+     *
+     * @param index the grid index of the map node
+     * @return the component's label, or {@code -1} if the map node is not accessible
+     */
+    public int getComponentId(int index) {
+        return index == NO_INDEX ? NO_COMPONENT : componentIds[index];
+    }
+
+    public boolean isReachable(int fromIndex, int toIndex) {
+        int componentId = getComponentId(fromIndex);
+
+        return componentId != NO_COMPONENT && componentId == getComponentId(toIndex);
+    }
+
+    public boolean isReachable(Position source, Position destination) {
+        return isReachable(map.indexOf(source), map.indexOf(destination));
+    }
+
+    /**
+     * Returns the number of accessible map nodes, which can be reached from the map node at
+     * {@code index}. If that map node itself is not accessible (e.g. a fort placed on water),
+     * its accessible neighbors are where any walk would start.
+     *
+     * @param index the grid index of the map node to start from
+     * @return the number of reachable accessible map nodes, including the start itself
+     */
+    public int countReachableFrom(int index) {
+        if (index == NO_INDEX) {
+            return 0;
+        }
+
+        int componentId = getComponentId(index);
+
+        if (componentId != NO_COMPONENT) {
+            return componentSizes[componentId];
+        }
+
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        int[] countedComponentIds = new int[graph.getDegree(index)];
+        int countedComponentCount = 0;
+        int reachableCount = 0;
+
+        for (int edge = graph.getFirstEdge(index); edge < graph.getLastEdge(index); ++edge) {
+            int neighborComponentId = getComponentId(graph.getNeighbor(edge));
+
+            if (neighborComponentId == NO_COMPONENT
+                    || contains(countedComponentIds, countedComponentCount, neighborComponentId)) {
+                continue;
+            }
+
+            countedComponentIds[countedComponentCount++] = neighborComponentId;
+            reachableCount += componentSizes[neighborComponentId];
+        }
+
+        return reachableCount;
+    }
+}
@@ -0,0 +1,287 @@
+package client.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import client.map.GameMap;
+import client.map.MapDirection;
+import client.map.Path;
+import client.map.Position;
+import client.map.TerrainType;
+
+/**
+ * An incremental path finder implementing D* Lite, which keeps its search tree between
+ * searches towards the same destination and only repairs the map nodes whose travel costs have
+ * changed since the last search, e.g. because {@link GameMap#update} revealed map nodes.
+ * <p>
+ * The search runs backward from the destination to the source, so the source may move between
+ * searches without invalidating the search tree. Searching towards another destination or on
+ * a map that has grown discards the search tree and starts over.
+ * <p>
+ * Entering a map node costs less, the more unvisited map nodes can be seen from there, just
+ * like in the {@link AStarPathFinder}, but each step costs at least {@value MIN_STEP_COST}, so
+ * the taxicab distance stays a consistent heuristic and the cheapest path is well-defined.
+ */
+public class DStarLitePathFinder implements PathFinder {
+
+    private static final MapDirection[] DIRECTIONS = MapDirection.values();
+    private static final int NO_INDEX = -1;
+    private static final int INFINITE_COST = 1 << 29;
+    private static final int MIN_STEP_COST = 1;
+
+    private final GameMap map;
+    private final IndexedMinHeap openSet;
+
+    private int[] costToGoal;
+    private int[] lookaheadCost;
+    private int[] knownExplorationValues;
+    private int knownMapSize;
+    private int knownVisitCount;
+
+    private int sourceIndex;
+    private int goalIndex;
+    private int keyModifier;
+    private int resetCount;
+
+    public DStarLitePathFinder(GameMap map) {
+        this.map = map;
+        this.openSet = new IndexedMinHeap(0);
+        this.costToGoal = new int[0];
+        this.lookaheadCost = new int[0];
+        this.knownExplorationValues = new int[0];
+        this.knownMapSize = 0;
+        this.knownVisitCount = 0;
+        this.sourceIndex = NO_INDEX;
+        this.goalIndex = NO_INDEX;
+        this.keyModifier = 0;
+        this.resetCount = 0;
+    }
+
+    private Position getPositionAt(int index) {
+        return map.getNodeAtIndex(index).getPosition();
+    }
+
+    private int computeRemainingCost(int fromIndex, int toIndex) {
+        return MIN_STEP_COST * getPositionAt(fromIndex).taxicabDistanceTo(getPositionAt(toIndex));
+    }
+
+    private int computeTravelCost(int fromIndex, int toIndex) {
+        int totalCost = 3 * TerrainType.computeTravelCost(map.getTerrainTypeAt(fromIndex),
+                                                          map.getTerrainTypeAt(toIndex));
+
+        totalCost -= map.countUnvisitedInSight(toIndex);
+
+        return Math.max(MIN_STEP_COST, totalCost);
+    }
+
+    private long computeKey(int index) {
+        int minCost = Math.min(costToGoal[index], lookaheadCost[index]);
+        long primaryKey = (long) minCost + computeRemainingCost(sourceIndex, index) + keyModifier;
+
+        return (primaryKey << Integer.SIZE) | minCost;
+    }
+
+    private void reset(int newSourceIndex, int newGoalIndex) {
+        int indexBound = map.getIndexBound();
+
+        if (costToGoal.length != indexBound) {
+            costToGoal = new int[indexBound];
+            lookaheadCost = new int[indexBound];
+            knownExplorationValues = new int[indexBound];
+        }
+
+        openSet.clear();
+        openSet.ensureCapacity(indexBound);
+
+        Arrays.fill(costToGoal, INFINITE_COST);
+        Arrays.fill(lookaheadCost, INFINITE_COST);
+
+        for (int index = 0; index < indexBound; ++index) {
+            if (map.getNodeAtIndex(index) != null) {
+                knownExplorationValues[index] = map.countUnvisitedInSight(index);
+            }
+        }
+
+        knownMapSize = map.getSize();
+        knownVisitCount = map.getVisitCount();
+        sourceIndex = newSourceIndex;
+        goalIndex = newGoalIndex;
+        keyModifier = 0;
+        ++resetCount;
+
+        lookaheadCost[goalIndex] = 0;
+        openSet.push(goalIndex, computeKey(goalIndex));
+    }
+
+    private void updateVertex(int index) {
+        if (index != goalIndex) {
+            int minCost = INFINITE_COST;
+
+            for (MapDirection direction : DIRECTIONS) {
+                int neighborIndex = map.getReachableNeighborIndex(index, direction);
+
+                if (neighborIndex != NO_INDEX && costToGoal[neighborIndex] < INFINITE_COST) {
+                    int cost = computeTravelCost(index, neighborIndex) + costToGoal[neighborIndex];
+                    minCost = Math.min(minCost, cost);
+                }
+            }
+
+            lookaheadCost[index] = minCost;
+        }
+
+        boolean isQueued = openSet.contains(index);
+        boolean isConsistent = costToGoal[index] == lookaheadCost[index];
+
+        if (isConsistent && isQueued) {
+            openSet.remove(index);
+        } else if (!isConsistent && isQueued) {
+            openSet.updateKey(index, computeKey(index));
+        } else if (!isConsistent) {
+            openSet.push(index, computeKey(index));
+        }
+    }
+
+    private void updatePredecessors(int index) {
+        for (MapDirection direction : DIRECTIONS) {
+            int neighborIndex = map.getReachableNeighborIndex(index, direction);
+
+            if (neighborIndex != NO_INDEX) {
+                updateVertex(neighborIndex);
+            }
+        }
+    }
+
+    private void repairVertex(int index) {
+        int explorationValue = map.countUnvisitedInSight(index);
+
+        if (explorationValue != knownExplorationValues[index]) {
+            knownExplorationValues[index] = explorationValue;
+            updatePredecessors(index);
+        }
+    }
+
+    /**
+     * Repairs all map nodes whose edges towards a map node with a changed exploration value,
+     * i.e. a changed amount of unvisited map nodes in sight, now have a different travel cost.
+     * <p>
+     * Exploration values only change when map nodes get visited, so only the map nodes, which
+     * have a map node visited since the last search in sight, are checked.
+     */
+    private void repairChangedVertices() {
+        map.forEachIndexVisitedSince(knownVisitCount,
+                                     index -> map.forEachViewerIndex(index, this::repairVertex));
+
+        knownVisitCount = map.getVisitCount();
+    }
+
+    private void computeShortestPath() {
+        while (!openSet.isEmpty()
+                && (openSet.peekKey() < computeKey(sourceIndex)
+                || lookaheadCost[sourceIndex] != costToGoal[sourceIndex])) {
+            long previousKey = openSet.peekKey();
+            int currentIndex = openSet.pop();
+            long currentKey = computeKey(currentIndex);
+
+            if (previousKey < currentKey) {
+                openSet.push(currentIndex, currentKey);
+            } else if (costToGoal[currentIndex] > lookaheadCost[currentIndex]) {
+                costToGoal[currentIndex] = lookaheadCost[currentIndex];
+                updatePredecessors(currentIndex);
+            } else {
+                costToGoal[currentIndex] = INFINITE_COST;
+                updateVertex(currentIndex);
+                updatePredecessors(currentIndex);
+            }
+        }
+    }
+
+    private Path extractPath(Position source, Position destination) {
+        List<Position> pathNodes = new ArrayList<>();
+        int currentIndex = sourceIndex;
+
+        pathNodes.add(source);
+
+        while (currentIndex != goalIndex) {
+            int nextIndex = NO_INDEX;
+            int minCost = INFINITE_COST;
+
+            for (MapDirection direction : DIRECTIONS) {
+                int neighborIndex = map.getReachableNeighborIndex(currentIndex, direction);
+
+                if (neighborIndex == NO_INDEX || costToGoal[neighborIndex] >= INFINITE_COST) {
+                    continue;
+                }
+
+                int cost = computeTravelCost(currentIndex, neighborIndex)
+                        + costToGoal[neighborIndex];
+
+                if (cost < minCost) {
+                    minCost = cost;
+                    nextIndex = neighborIndex;
+                }
+            }
+
+            // As every step costs something, this can only happen on an inconsistent tree
+            if (nextIndex == NO_INDEX || pathNodes.size() > costToGoal.length) {
+                throw new PathNotFoundException(source, destination);
+            }
+
+            currentIndex = nextIndex;
+            pathNodes.add(getPositionAt(currentIndex));
+        }
+
+        return new Path(pathNodes);
+    }
+
+    public boolean isSearchingOn(GameMap otherMap) {
+        return map == otherMap;
+    }
+
+    /**
+     * Returns the travel cost of the path found by the last search.
+     *
+     * @return the travel cost from the last source to the last destination
+     */
+    int getLastTravelCost() {
+        return costToGoal[sourceIndex];
+    }
+
+    /**
+     * Returns how often the search tree was discarded and started over, i.e. how many searches
+     * were not incremental, as they went towards another destination or on a grown map.
+     *
+     * @return the number of searches, which started over
+     */
+    public int getResetCount() {
+        return resetCount;
+    }
+
+    @Override
+    public Path findPath(Position source, Position destination) {
+        int newSourceIndex = map.indexOf(source);
+        int newGoalIndex = map.indexOf(destination);
+
+        if (newSourceIndex == NO_INDEX || newGoalIndex == NO_INDEX) {
+            throw new PathNotFoundException(source, destination);
+        }
+
+        if (newGoalIndex != goalIndex || costToGoal.length != map.getIndexBound()
+                || knownMapSize != map.getSize() || !getPositionAt(goalIndex).equals(destination)) {
+            reset(newSourceIndex, newGoalIndex);
+        } else {
+            keyModifier += computeRemainingCost(sourceIndex, newSourceIndex);
+            sourceIndex = newSourceIndex;
+
+            repairChangedVertices();
+        }
+
+        computeShortestPath();
+
+        if (costToGoal[sourceIndex] >= INFINITE_COST) {
+            throw new PathNotFoundException(source, destination);
+        }
+
+        return extractPath(source, destination);
+    }
+}
@@ -0,0 +1,195 @@
+package client.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import client.map.AdjacencyGraph;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Path;
+import client.map.Position;
+
+/**
+ * Precomputed travel costs and next hops between all pairs of accessible map nodes.
+ * <p>
+ * As the terrain of a map node never changes, the travel costs between the map nodes of the
+ * full map are static. This runs Dijkstra's algorithm once for every accessible map node and
+ * stores the resulting costs in an {@code int} matrix, as well as the first direction to take
+ * along the cheapest path in a {@code byte} matrix, both indexed by the map's grid indices.
+ * Afterward, costs and next directions are looked up in constant time and paths are built in
+ * time proportional to their length.
+ * <p>
+ * The matrices grow quadratically with the map size, so this is meant for the full map only.
+ */
+public class DistanceOracle implements PathFinder {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final MapDirection[] DIRECTIONS = MapDirection.values();
+    private static final byte NO_DIRECTION = -1;
+    private static final int NO_INDEX = -1;
+
+    private final GameMap map;
+    private final int indexBound;
+    private final int[] travelCosts;
+    private final byte[] nextDirections;
+
+    private DistanceOracle(GameMap map) {
+        this.map = map;
+        this.indexBound = map.getIndexBound();
+        this.travelCosts = new int[indexBound * indexBound];
+        this.nextDirections = new byte[indexBound * indexBound];
+
+        Arrays.fill(travelCosts, UNREACHABLE);
+        Arrays.fill(nextDirections, NO_DIRECTION);
+    }
+
+    /**
+     * Builds the travel costs and next hops between all accessible map nodes of {@code map}.
+     * <p>
+     * The map must not grow afterward, as its grid indices would change.
+     *
+     * @param map the (full) map to compute all travel costs of
+     * @return the distance oracle for the map
+     */
+    public static DistanceOracle fromMap(GameMap map) {
+        DistanceOracle oracle = new DistanceOracle(map);
+        IndexedMinHeap openSet = new IndexedMinHeap(oracle.indexBound);
+
+        for (int sourceIndex = 0; sourceIndex < oracle.indexBound; ++sourceIndex) {
+            GameMapNode sourceNode = map.getNodeAtIndex(sourceIndex);
+
+            if (sourceNode != null && sourceNode.isAccessible()) {
+                oracle.computeRow(sourceIndex, openSet);
+            }
+        }
+
+        return oracle;
+    }
+
+    private void computeRow(int sourceIndex, IndexedMinHeap openSet) {
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        int rowOffset = sourceIndex * indexBound;
+
+        travelCosts[rowOffset + sourceIndex] = 0;
+        openSet.push(sourceIndex, 0);
+
+        while (!openSet.isEmpty()) {
+            int currentIndex = openSet.pop();
+            int currentCost = travelCosts[rowOffset + currentIndex];
+
+            for (int edge = graph.getFirstEdge(currentIndex);
+                 edge < graph.getLastEdge(currentIndex); ++edge) {
+                int neighborIndex = graph.getNeighbor(edge);
+                int travelCost = currentCost + graph.getTravelCost(edge);
+
+                if (travelCost >= travelCosts[rowOffset + neighborIndex]) {
+                    continue;
+                }
+
+                travelCosts[rowOffset + neighborIndex] = travelCost;
+                nextDirections[rowOffset + neighborIndex] = currentIndex == sourceIndex
+                        ? (byte) graph.getDirection(edge).ordinal()
+                        : nextDirections[rowOffset + currentIndex];
+
+                if (openSet.contains(neighborIndex)) {
+                    openSet.decreaseKey(neighborIndex, travelCost);
+                } else {
+                    openSet.push(neighborIndex, travelCost);
+                }
+            }
+        }
+    }
+
+    private int indexOfPair(Position source, Position destination) {
+        int sourceIndex = map.indexOf(source);
+        int destinationIndex = map.indexOf(destination);
+
+        if (sourceIndex == NO_INDEX || destinationIndex == NO_INDEX) {
+            return NO_INDEX;
+        }
+
+        return sourceIndex * indexBound + destinationIndex;
+    }
+
+    /**
+     * Returns the total travel cost of the cheapest path between two grid indices of the map,
+     * which, unlike {@link #getTravelCost(Position, Position)}, neither looks up positions nor
+     * boxes the result, for callers iterating over many pairs.
+     *
+     * @param sourceIndex the grid index to start from
+     * @param destinationIndex the grid index to go to
+     * @return the travel cost of the cheapest path, or {@link #UNREACHABLE} if there is none
+     */
+    public int getTravelCost(int sourceIndex, int destinationIndex) {
+        if (sourceIndex == NO_INDEX || destinationIndex == NO_INDEX) {
+            return UNREACHABLE;
+        }
+
+        return travelCosts[sourceIndex * indexBound + destinationIndex];
+    }
+
+    /**
+     * Returns the total travel cost of the cheapest path from {@code source} to
+     * {@code destination}, if there is any.
+     *
+     * @param source the position to start from
+     * @param destination the position to go to
+     * @return the travel cost of the cheapest path, if there is any
+     */
+    public OptionalInt getTravelCost(Position source, Position destination) {
+        int pairIndex = indexOfPair(source, destination);
+
+        if (pairIndex == NO_INDEX || travelCosts[pairIndex] == UNREACHABLE) {
+            return OptionalInt.empty();
+        }
+
+        return OptionalInt.of(travelCosts[pairIndex]);
+    }
+
+    /**
+     * Returns the direction of the first step on the cheapest path from {@code source} to
+     * {@code destination}, if there is any and both positions differ.
+     *
+     * @param source the position to start from
+     * @param destination the position to go to
+     * @return the first direction to take, if there is any
+     */
+    public Optional<MapDirection> getNextDirection(Position source, Position destination) {
+        int pairIndex = indexOfPair(source, destination);
+
+        if (pairIndex == NO_INDEX || nextDirections[pairIndex] == NO_DIRECTION) {
+            return Optional.empty();
+        }
+
+        return Optional.of(DIRECTIONS[nextDirections[pairIndex]]);
+    }
+
+    @Override
+    public Path findPath(Position source, Position destination) {
+        OptionalInt travelCost = getTravelCost(source, destination);
+
+        if (travelCost.isEmpty()) {
+            throw new PathNotFoundException(source, destination);
+        }
+
+        List<Position> pathNodes = new ArrayList<>();
+        Position currentPosition = source;
+
+        pathNodes.add(source);
+
+        while (!currentPosition.equals(destination)) {
+            MapDirection direction = getNextDirection(currentPosition, destination)
+                    .orElseThrow(() -> new PathNotFoundException(source, destination));
+
+            currentPosition = currentPosition.stepInDirection(direction);
+            pathNodes.add(currentPosition);
+        }
+
+        return new Path(pathNodes);
+    }
+}
@@ -0,0 +1,231 @@
+package client.search;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import client.map.Bitboard;
+import client.map.GameMap;
+import client.map.MapDirection;
+import client.map.MapRegion;
+import client.map.Position;
+
+/**
+ * A belief over the enemy's half map, holding for each map node the probability that the
+ * enemy's fort is placed there, such that the most likely map node can be looked up instead of
+ * scanning all map nodes on every turn.
+ * <p>
+ * The (unnormalized) weight of a map node is the product of
+ * <ul>
+ *     <li>the likelihood of its fort structure, as forts are mostly surrounded by water or
+ *     the map's edge, such that the more inaccessible neighbors it has, the likelier it is,</li>
+ *     <li>the likelihood of the enemy's position history, as the enemy has most likely not
+ *     walked far from its fort when first seen, which is zero for map nodes the enemy cannot
+ *     have started at, given the travel costs it can have spent until then (see
+ *     {@link FortEstimator#getPossibleBoard(int, int)}), and</li>
+ *     <li>zero, if the map node was already ruled out, i.e. it was visited, is no grass or
+ *     cannot be reached by the player at all.</li>
+ * </ul>
+ * The structure likelihoods only depend on the terrain and are computed once. On an update,
+ * only map nodes visited since the previous update are ruled out, which are read from the map's
+ * visit log (see {@link GameMap#forEachIndexVisitedSince(int, IntConsumer)}) instead of
+ * comparing every candidate with the map, and the history likelihoods are only recomputed when
+ * the enemy's first seen position or its possible start positions change.
+ */
+public class EnemyFortBelief {
+
+    private static final int NO_INDEX = -1;
+
+    /**
+     * The likelihood of a fort structure, indexed by the number of inaccessible neighbors.
+     */
+    private static final double[] STRUCTURE_LIKELIHOODS = {1.0, 1.0, 2.0, 8.0, 8.0};
+    private static final double HISTORY_DISTANCE_SCALE = 3.0;
+
+    private final GameMap map;
+    private final double[] structureLikelihoods;
+    private final double[] weights;
+    private final Bitboard candidateBoard;
+
+    private double totalWeight;
+    private int mostLikelyIndex;
+    private int knownVisitCount;
+    private Optional<Position> firstEnemyPosition = Optional.empty();
+    private Optional<Bitboard> possibleStartBoard = Optional.empty();
+    private boolean isPossibleStartBoardApplied;
+
+    /**
+     * Creates a belief over the {@code enemyHalfMap}, which is part of the (full) {@code map}.
+     *
+     * @param map the map the enemy's fort is placed on
+     * @param enemyHalfMap the part of the map the enemy's fort must be placed on
+     * @param isReachable whether the player can reach a position at all
+     */
+    public EnemyFortBelief(GameMap map, MapRegion enemyHalfMap,
+                           Predicate<Position> isReachable) {
+        int indexBound = map.getIndexBound();
+
+        this.map = map;
+        this.structureLikelihoods = new double[indexBound];
+        this.weights = new double[indexBound];
+        this.candidateBoard = enemyHalfMap.toBoard(map);
+        this.knownVisitCount = map.getVisitCount();
+
+        candidateBoard.and(map.getUnvisitedLootableBoard());
+
+        for (int index = candidateBoard.nextSetBit(0); index != NO_INDEX;
+             index = candidateBoard.nextSetBit(index + 1)) {
+            if (isReachable.test(map.getNodeAtIndex(index).getPosition())) {
+                structureLikelihoods[index] = computeStructureLikelihood(index);
+            } else {
+                candidateBoard.clear(index);
+            }
+        }
+
+        recomputeWeights();
+    }
+
+    private double computeStructureLikelihood(int index) {
+        int inaccessibleCount = 0;
+
+        for (MapDirection direction : MapDirection.values()) {
+            int neighborIndex = map.getNeighborIndex(index, direction);
+
+            if (neighborIndex != NO_INDEX && !map.getNodeAtIndex(neighborIndex).isAccessible()) {
+                ++inaccessibleCount;
+            }
+        }
+
+        return STRUCTURE_LIKELIHOODS[inaccessibleCount];
+    }
+
+    private double computeHistoryLikelihood(int index) {
+        if (isPossibleStartBoardApplied && !possibleStartBoard.orElseThrow().get(index)) {
+            return 0.0;
+        }
+
+        return firstEnemyPosition
+                .map(position -> {
+                    Position candidate = map.getNodeAtIndex(index).getPosition();
+                    int distance = candidate.taxicabDistanceTo(position);
+
+                    return Math.exp(-distance / HISTORY_DISTANCE_SCALE);
+                })
+                .orElse(1.0);
+    }
+
+    private void recomputeWeights() {
+        isPossibleStartBoardApplied = possibleStartBoard
+                .filter(startBoard -> startBoard.intersects(candidateBoard))
+                .isPresent();
+        totalWeight = 0.0;
+
+        for (int index = candidateBoard.nextSetBit(0); index != NO_INDEX;
+             index = candidateBoard.nextSetBit(index + 1)) {
+            weights[index] = structureLikelihoods[index] * computeHistoryLikelihood(index);
+            totalWeight += weights[index];
+        }
+
+        findMostLikelyIndex();
+    }
+
+    private static boolean isSameBoard(Optional<Bitboard> board, Optional<Bitboard> otherBoard) {
+        if (board.isEmpty() || otherBoard.isEmpty()) {
+            return board.isEmpty() && otherBoard.isEmpty();
+        }
+
+        int cardinality = board.get().cardinality();
+
+        return cardinality == otherBoard.get().cardinality()
+                && cardinality == board.get().countIntersection(otherBoard.get());
+    }
+
+    private void findMostLikelyIndex() {
+        mostLikelyIndex = NO_INDEX;
+
+        for (int index = candidateBoard.nextSetBit(0); index != NO_INDEX;
+             index = candidateBoard.nextSetBit(index + 1)) {
+            if (mostLikelyIndex == NO_INDEX || weights[index] > weights[mostLikelyIndex]) {
+                mostLikelyIndex = index;
+            }
+        }
+    }
+
+    private void ruleOut(int index) {
+        if (candidateBoard.get(index)) {
+            candidateBoard.clear(index);
+            totalWeight -= weights[index];
+            weights[index] = 0.0;
+        }
+    }
+
+    public boolean isBelievingOn(GameMap otherMap) {
+        return map == otherMap;
+    }
+
+    /**
+     * Rules out all map nodes visited since the previous update and takes the enemy's
+     * {@code positionHistory} and {@code possibleStartBoard} into account, if they have changed.
+     * <p>
+     * The possible start positions are ignored, as long as none of the remaining map nodes is
+     * among them, e.g. because the enemy's first seen position was not its real one.
+     *
+     * @param positionHistory the positions the enemy was seen at
+     * @param possibleStartBoard the grid indices of all positions the enemy can have started at
+     */
+    public void update(List<Position> positionHistory, Optional<Bitboard> possibleStartBoard) {
+        Optional<Position> firstPosition = positionHistory.stream().findFirst();
+
+        map.forEachIndexVisitedSince(knownVisitCount, this::ruleOut);
+        knownVisitCount = map.getVisitCount();
+
+        if (!firstPosition.equals(firstEnemyPosition)
+                || !isSameBoard(possibleStartBoard, this.possibleStartBoard)) {
+            firstEnemyPosition = firstPosition;
+            this.possibleStartBoard = possibleStartBoard;
+            recomputeWeights();
+            return;
+        }
+
+        // Stop relying on the possible start positions, once all of them are ruled out
+        if (isPossibleStartBoardApplied
+                && !this.possibleStartBoard.orElseThrow().intersects(candidateBoard)) {
+            recomputeWeights();
+            return;
+        }
+
+        if (mostLikelyIndex != NO_INDEX && !candidateBoard.get(mostLikelyIndex)) {
+            findMostLikelyIndex();
+        }
+    }
+
+    /**
+     * Returns the probability of the enemy's fort being placed at {@code position}.
+     *
+     * @param position the position to look up
+     * @return the probability, which is zero for ruled out positions
+     */
+    public double getProbability(Position position) {
+        int index = map.indexOf(position);
+
+        if (index == NO_INDEX || !candidateBoard.get(index) || totalWeight <= 0.0) {
+            return 0.0;
+        }
+
+        return weights[index] / totalWeight;
+    }
+
+    /**
+     * Returns the position, where the enemy's fort is placed most likely.
+     *
+     * @return the most likely position, or nothing if every position was ruled out
+     */
+    public Optional<Position> getMostLikelyPosition() {
+        if (mostLikelyIndex == NO_INDEX) {
+            return Optional.empty();
+        }
+
+        return Optional.of(map.getNodeAtIndex(mostLikelyIndex).getPosition());
+    }
+}
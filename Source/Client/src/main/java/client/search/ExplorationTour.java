@@ -0,0 +1,23 @@
+package client.search;
+
+import java.util.List;
+import java.util.Optional;
+
+import client.map.Position;
+
+/**
+ * A planned tour over vantage positions, which together have every target map node in sight.
+ *
+ * @param vantagePositions the positions to visit, in the order to visit them
+ * @param travelCost the total travel cost from the start along all vantage positions
+ */
+public record ExplorationTour(List<Position> vantagePositions, int travelCost) {
+
+    public boolean isEmpty() {
+        return vantagePositions.isEmpty();
+    }
+
+    public Optional<Position> getNextVantagePosition() {
+        return vantagePositions.stream().findFirst();
+    }
+}
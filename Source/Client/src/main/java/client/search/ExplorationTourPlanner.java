@@ -0,0 +1,218 @@
+package client.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapRegion;
+import client.map.Position;
+
+/**
+ * Plans a short tour over vantage positions, from where every unvisited grass map node of a
+ * target map (e.g. the player's half map) is in sight, instead of walking to one random
+ * destination after the other.
+ * <p>
+ * The vantage positions are chosen by the {@link VantagePointSelector}, taking the view radius
+ * of mountains into account. They are then ordered into an open tour starting at the player,
+ * first by always going to the nearest unvisited vantage position and afterward by 2-opt moves,
+ * which reverse parts of the tour as long as that makes it cheaper. All travel costs are exact,
+ * as they are looked up in a {@link DistanceOracle}.
+ * <p>
+ * The 2-opt improvement stops as soon as the planning budget is used up, so a planning run
+ * takes at most the budget plus the (tiny) time to build the initial tour.
+ */
+public class ExplorationTourPlanner {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final int NO_INDEX = -1;
+
+    private final GameMap map;
+    private final DistanceOracle distanceOracle;
+    private final long budgetMillis;
+    private final VantagePointSelector vantagePointSelector;
+
+    /**
+     * Creates a planner on the (full) {@code map}, whose travel costs are known by the
+     * {@code distanceOracle}.
+     *
+     * @param map the map to plan the tour on
+     * @param distanceOracle the travel costs between all positions of the map
+     * @param budgetMillis the time in milliseconds a single planning run may take
+     */
+    public ExplorationTourPlanner(GameMap map, DistanceOracle distanceOracle, long budgetMillis) {
+        this.map = map;
+        this.distanceOracle = distanceOracle;
+        this.budgetMillis = budgetMillis;
+        this.vantagePointSelector = new VantagePointSelector(map, distanceOracle);
+    }
+
+    public boolean isPlanningOn(GameMap otherMap) {
+        return map == otherMap;
+    }
+
+    private static boolean isTarget(GameMapNode mapNode) {
+        return mapNode.isLootable() && mapNode.isUnvisited();
+    }
+
+    private int getTravelCost(Position source, Position destination) {
+        OptionalInt travelCost = distanceOracle.getTravelCost(source, destination);
+
+        return travelCost.orElse(DistanceOracle.UNREACHABLE);
+    }
+
+    /**
+     * Builds the travel cost matrix between the start (row and column 0) and all vantage
+     * positions (rows and columns {@code 1..n}).
+     */
+    private int[] buildDistanceMatrix(Position start, List<Position> vantagePositions) {
+        List<Position> tourPositions = new ArrayList<>(vantagePositions.size() + 1);
+        tourPositions.add(start);
+        tourPositions.addAll(vantagePositions);
+
+        int size = tourPositions.size();
+        int[] distances = new int[size * size];
+
+        for (int from = 0; from < size; ++from) {
+            for (int to = 0; to < size; ++to) {
+                distances[from * size + to] = getTravelCost(tourPositions.get(from),
+                                                            tourPositions.get(to));
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Orders the tour stops {@code 1..size-1} by always going to the nearest unvisited stop,
+     * starting at stop 0.
+     */
+    private static int[] buildNearestNeighborTour(int[] distances, int size) {
+        int[] tour = new int[size];
+        boolean[] isVisited = new boolean[size];
+        isVisited[0] = true;
+
+        for (int position = 1; position < size; ++position) {
+            int previousStop = tour[position - 1];
+            int nearestStop = -1;
+
+            for (int stop = 1; stop < size; ++stop) {
+                if (!isVisited[stop] && (nearestStop == -1 || distances[previousStop * size + stop]
+                        < distances[previousStop * size + nearestStop])) {
+                    nearestStop = stop;
+                }
+            }
+
+            tour[position] = nearestStop;
+            isVisited[nearestStop] = true;
+        }
+
+        return tour;
+    }
+
+    private static int getDistance(int[] distances, int size, int[] tour, int from, int to) {
+        return distances[tour[from] * size + tour[to]];
+    }
+
+    private static void reverse(int[] tour, int from, int to) {
+        for (int i = from, j = to; i < j; ++i, --j) {
+            int stop = tour[i];
+            tour[i] = tour[j];
+            tour[j] = stop;
+        }
+    }
+
+    /**
+     * Improves the open {@code tour} by reversing the stops {@code i..j}, whenever that makes
+     * the tour cheaper, until no such reversal is left or the {@code deadline} has passed.
+     */
+    private static void improveTour(int[] distances, int size, int[] tour, long deadline) {
+        boolean hasImproved = true;
+
+        while (hasImproved && System.nanoTime() < deadline) {
+            hasImproved = false;
+
+            for (int i = 1; i < size - 1 && System.nanoTime() < deadline; ++i) {
+                for (int j = i + 1; j < size; ++j) {
+                    boolean hasNext = j + 1 < size;
+                    int oldCost = getDistance(distances, size, tour, i - 1, i)
+                            + (hasNext ? getDistance(distances, size, tour, j, j + 1) : 0);
+                    int newCost = getDistance(distances, size, tour, i - 1, j)
+                            + (hasNext ? getDistance(distances, size, tour, i, j + 1) : 0);
+
+                    if (newCost < oldCost) {
+                        reverse(tour, i, j);
+                        hasImproved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int computeTourCost(int[] distances, int size, int[] tour) {
+        int travelCost = 0;
+
+        for (int position = 1; position < size; ++position) {
+            travelCost += getDistance(distances, size, tour, position - 1, position);
+        }
+
+        return travelCost;
+    }
+
+    /**
+     * Returns whether any unvisited grass map node of the {@code targetMap} is still in sight of
+     * the {@code vantagePosition}, i.e. whether walking there is still worth it.
+     *
+     * @param vantagePosition the position to look from
+     * @param targetMap the part of the map to explore
+     * @return whether there is anything left to see from the vantage position
+     */
+    public boolean hasTargetInSight(Position vantagePosition, MapRegion targetMap) {
+        int cameraIndex = map.indexOf(vantagePosition);
+        int[] targetCount = new int[1];
+
+        if (cameraIndex == NO_INDEX) {
+            return false;
+        }
+
+        map.forEachIndexInSight(cameraIndex, index -> {
+            GameMapNode mapNode = map.getNodeAtIndex(index);
+
+            if (isTarget(mapNode) && targetMap.contains(mapNode.getPosition())) {
+                ++targetCount[0];
+            }
+        });
+
+        return targetCount[0] > 0;
+    }
+
+    /**
+     * Plans a tour from {@code start} over vantage positions, from where all unvisited grass
+     * map nodes of the {@code targetMap}, which can be reached at all, are in sight.
+     *
+     * @param start the position to start the tour at
+     * @param targetMap the part of the map to explore
+     * @return the planned tour, which is empty if there is nothing left to explore
+     */
+    public ExplorationTour planTour(Position start, MapRegion targetMap) {
+        long deadline = System.nanoTime() + budgetMillis * NANOS_PER_MILLI;
+
+        List<Position> vantagePositions = vantagePointSelector.selectVantagePositions(start,
+                                                                                  targetMap);
+
+        int size = vantagePositions.size() + 1;
+        int[] distances = buildDistanceMatrix(start, vantagePositions);
+        int[] tour = buildNearestNeighborTour(distances, size);
+
+        improveTour(distances, size, tour, deadline);
+
+        List<Position> orderedPositions = new ArrayList<>(vantagePositions.size());
+        for (int position = 1; position < size; ++position) {
+            orderedPositions.add(vantagePositions.get(tour[position] - 1));
+        }
+
+        return new ExplorationTour(List.copyOf(orderedPositions),
+                                   computeTourCost(distances, size, tour));
+    }
+}
@@ -1,27 +1,41 @@
 package client.search;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 import client.main.GameClientState;
+import client.map.Bitboard;
 import client.map.GameMap;
 import client.map.GameMapNode;
-import client.map.Path;
 import client.map.Position;
 import client.map.TerrainType;
 import client.player.Player;
 
+/**
+ * Estimates where the player's fort may be, by finding all positions the player can have
+ * started at, given the travel costs spent along the positions seen so far.
+ * <p>
+ * The reachable positions are computed by a {@link ReachableSetEngine}, which is kept as long
+ * as the first seen position stays the same, and the travel costs of the seen positions are
+ * summed up incrementally, so estimating again on every poll only costs the new steps.
+ */
 public class FortEstimator {
 
+    private static final int MIN_ESTIMATION_TURN = 8;
+
     private final GameMap map;
     private final Player player;
 
+    private Optional<ReachableSetEngine> reachableSetEngine = Optional.empty();
+    private int summedHistorySize;
+    private int summedTravelCost;
+    private Optional<TerrainType> lastTerrainType = Optional.empty();
+
     public FortEstimator(GameMap map, Player player) {
-        this.map = makeMapDeepClone(map);
+        // The terrain of map nodes never changes, so the map is only read and not cloned
+        this.map = map;
         this.player = player;
     }
 
@@ -29,62 +43,91 @@ public class FortEstimator {
         this(clientState.getMap().getEnemyHalfMap(), clientState.getEnemy().orElseThrow());
     }
 
-    private static GameMap makeMapDeepClone(GameMap map) {
-        return new GameMap(map.getMapNodes().stream().map(GameMapNode::new));
+    public boolean isEstimating(GameMap otherMap, Player otherPlayer) {
+        return map == otherMap && player == otherPlayer;
     }
 
-    private static void getPossiblePositions(GameMap map, Position source,
-                                             Collection<Position> visitedPositions,
-                                             Map<Integer, List<Position>> possiblePositions,
-                                             int currentTurn) {
-        List<Position> positions = possiblePositions.getOrDefault(currentTurn, new ArrayList<>(1));
-        positions.add(source);
-        visitedPositions.add(source);
-        possiblePositions.put(currentTurn, positions);
-
-        GameMapNode sourceMapNode = map.getNodeAt(source).orElseThrow();
-        TerrainType sourceTerrainType = sourceMapNode.getTerrainType();
-
-        map.getReachableNeighbors(source).stream()
-                .filter(mapNode -> !visitedPositions.contains(mapNode.getPosition()))
-                .forEach(mapNode -> {
-                    Position currentPosition = mapNode.getPosition();
-                    TerrainType currentTerrainType = mapNode.getTerrainType();
-                    int travelCost = currentTurn - TerrainType.computeTravelCost(sourceTerrainType,
-                                                                                 currentTerrainType);
-
-                    if (travelCost >= 0) {
-                        getPossiblePositions(map,
-                                             currentPosition,
-                                             visitedPositions,
-                                             possiblePositions,
-                                             travelCost);
-                    }
-                });
+    private ReachableSetEngine getReachableSetEngine(Position firstPosition) {
+        if (reachableSetEngine.filter(engine -> engine.isStartingAt(firstPosition)).isEmpty()) {
+            reachableSetEngine = Optional.of(new ReachableSetEngine(map, firstPosition));
+            summedHistorySize = 0;
+            summedTravelCost = 0;
+            lastTerrainType = Optional.empty();
+        }
+
+        return reachableSetEngine.orElseThrow();
     }
 
-    public Collection<Position> getPossiblePositions(int currentTurn) {
+    /**
+     * Adds the travel costs between the positions seen since the last call, skipping positions
+     * outside the map like a {@link client.map.Path} does.
+     */
+    private void sumTravelCost(List<Position> positionHistory) {
+        for (Position position : positionHistory.subList(summedHistorySize,
+                                                         positionHistory.size())) {
+            Optional<TerrainType> terrainType = map.getNodeAt(position)
+                    .map(GameMapNode::getTerrainType);
+
+            if (terrainType.isPresent() && lastTerrainType.isPresent()) {
+                summedTravelCost += TerrainType.computeTravelCost(lastTerrainType.get(),
+                                                                  terrainType.get());
+            }
+
+            lastTerrainType = terrainType.or(() -> lastTerrainType);
+        }
+
+        summedHistorySize = positionHistory.size();
+    }
+
+    /**
+     * Brings the engine and the summed travel costs up to date with the player's position
+     * history, unless the player was not seen on the map yet.
+     */
+    private Optional<ReachableSetEngine> prepareReachableSetEngine() {
         List<Position> positionHistory = player.getPositionHistory();
 
-        if (currentTurn < 8) {
-            return Collections.emptyList();
+        if (positionHistory.isEmpty() || map.getNodeAt(positionHistory.getFirst()).isEmpty()) {
+            return Optional.empty();
+        }
+
+        // The history only grows, unless it was cleared and started over
+        if (positionHistory.size() < summedHistorySize) {
+            reachableSetEngine = Optional.empty();
         }
 
-        GameMap searchMap = makeMapDeepClone(map);
+        ReachableSetEngine engine = getReachableSetEngine(positionHistory.getFirst());
+        sumTravelCost(positionHistory);
 
-        Position firstPosition = positionHistory.getFirst();
+        return Optional.of(engine);
+    }
 
-        Path path = new Path(positionHistory);
-        int totalTravelCost = path.intoMapDirections(searchMap).size();
+    public Collection<Position> getPossiblePositions(int currentTurn) {
+        if (currentTurn < MIN_ESTIMATION_TURN) {
+            return Collections.emptyList();
+        }
 
-        Collection<Position> visitedPositions = new ArrayList<>();
-        Map<Integer, List<Position>> possiblePositions = HashMap.newHashMap(41);
-        getPossiblePositions(searchMap,
-                             firstPosition,
-                             visitedPositions,
-                             possiblePositions,
-                             currentTurn - totalTravelCost);
+        return prepareReachableSetEngine()
+                .map(engine -> engine.getPositionsReachableAt(currentTurn - summedTravelCost))
+                .orElse(Collections.emptyList());
+    }
 
-        return possiblePositions.getOrDefault(0, Collections.emptyList());
+    /**
+     * Returns the grid indices of all positions the player can have started at, if the current
+     * turn is only known to lie between {@code minTurn} and {@code maxTurn}.
+     *
+     * @param minTurn the earliest the current turn can be
+     * @param maxTurn the latest the current turn can be
+     * @return the possible grid indices, or nothing if the player was not seen on the map yet
+     */
+    public Optional<Bitboard> getPossibleBoard(int minTurn, int maxTurn) {
+        return prepareReachableSetEngine().map(engine -> {
+            Bitboard possibleBoard = new Bitboard(map.getIndexBound());
+
+            for (int turn = minTurn; turn <= maxTurn; ++turn) {
+                possibleBoard.or(engine.getReachableAt(turn - summedTravelCost));
+            }
+
+            return possibleBoard;
+        });
     }
 }
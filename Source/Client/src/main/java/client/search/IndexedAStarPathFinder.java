@@ -0,0 +1,171 @@
+package client.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SequencedCollection;
+
+import client.map.AdjacencyGraph;
+import client.map.GameMap;
+import client.map.Path;
+import client.map.Position;
+
+/**
+ * An A* path finder working solely on the grid indices of a {@link GameMap}, which uses the
+ * same cost function and tie-breaking as {@link AStarPathFinder}, but neither copies the map nor
+ * allocates anything while expanding nodes.
+ * <p>
+ * All search state lives in primitive arrays of a {@link SearchContext}, which is reused by all
+ * searches on the same thread. The path finder reads the map directly, so the map must not be
+ * updated while a search is running.
+ */
+public class IndexedAStarPathFinder implements PathFinder {
+
+    private static final int NO_INDEX = -1;
+
+    private static final ThreadLocal<SearchContext> searchContexts =
+            ThreadLocal.withInitial(SearchContext::new);
+
+    private final GameMap map;
+
+    public IndexedAStarPathFinder(GameMap map) {
+        this.map = map;
+    }
+
+    private Path reconstructPath(int sourceIndex, int destinationIndex, int[] cameFrom) {
+        SequencedCollection<Position> pathNodes = new ArrayList<>();
+
+        int currentIndex = destinationIndex;
+
+        while (currentIndex != sourceIndex) {
+            pathNodes.add(map.getNodeAtIndex(currentIndex).getPosition());
+            currentIndex = cameFrom[currentIndex];
+        }
+
+        pathNodes.add(map.getNodeAtIndex(sourceIndex).getPosition());
+
+        return new Path(pathNodes.reversed());
+    }
+
+    @Override
+    public Path findPath(Position source, Position destination) {
+        int sourceIndex = map.indexOf(source);
+        int destinationIndex = map.indexOf(destination);
+
+        if (sourceIndex == NO_INDEX || destinationIndex == NO_INDEX) {
+            throw new PathNotFoundException(source, destination);
+        }
+
+        SearchContext context = searchContexts.get();
+        context.begin(map.getIndexBound());
+
+        try {
+            return search(context, sourceIndex, destinationIndex, destination);
+        } finally {
+            context.end();
+        }
+    }
+
+    private Path search(SearchContext context, int sourceIndex, int destinationIndex,
+                        Position destination) {
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        IndexedMinHeap openSet = context.openSet;
+        int[] costToStartNode = context.costToStartNode;
+        int[] cameFrom = context.cameFrom;
+
+        context.open(sourceIndex, 0, sourceIndex);
+        openSet.push(sourceIndex, AStarPathFinder.computeRemainingCost(
+                map.getNodeAtIndex(sourceIndex).getPosition(), destination));
+
+        while (!openSet.isEmpty()) {
+            int currentIndex = openSet.pop();
+
+            if (currentIndex == destinationIndex) {
+                return reconstructPath(sourceIndex, destinationIndex, cameFrom);
+            }
+
+            for (int edge = graph.getFirstEdge(currentIndex);
+                 edge < graph.getLastEdge(currentIndex); ++edge) {
+                int neighborIndex = graph.getNeighbor(edge);
+                int moveCost = AStarPathFinder.computeEdgeCost(map, graph.getTravelCost(edge),
+                                                               neighborIndex);
+                int travelCost = costToStartNode[currentIndex] + moveCost;
+
+                if (context.isOpened(neighborIndex)
+                        && travelCost >= costToStartNode[neighborIndex]) {
+                    continue;
+                }
+
+                // The taxicab heuristic is not consistent with the (non-positive) travel costs,
+                // so closed nodes, i.e. opened nodes no longer queued, are reopened whenever a
+                // cheaper way to them shows up.
+                context.open(neighborIndex, travelCost, currentIndex);
+
+                int totalTravelCost = travelCost + AStarPathFinder.computeRemainingCost(
+                        map.getNodeAtIndex(neighborIndex).getPosition(), destination);
+
+                if (openSet.contains(neighborIndex)) {
+                    openSet.decreaseKey(neighborIndex, totalTravelCost);
+                } else {
+                    openSet.push(neighborIndex, totalTravelCost);
+                }
+            }
+        }
+
+        throw new PathNotFoundException(map.getNodeAtIndex(sourceIndex).getPosition(),
+                                        destination);
+    }
+
+    /**
+     * The reusable state of a single search. Instead of clearing the arrays before every
+     * search, each search gets a new generation number, and array entries stamped with an
+     * older generation count as unset.
+     */
+    private static final class SearchContext {
+
+        private final IndexedMinHeap openSet = new IndexedMinHeap(0);
+
+        private int[] costToStartNode = new int[0];
+        private int[] cameFrom = new int[0];
+        private int[] openedIn = new int[0];
+
+        private int generation = 0;
+        private boolean isSearching = false;
+
+        private void begin(int indexBound) {
+            if (isSearching) {
+                throw new IllegalStateException("Cannot nest searches on the same thread");
+            }
+
+            if (indexBound > openedIn.length) {
+                costToStartNode = new int[indexBound];
+                cameFrom = new int[indexBound];
+                openedIn = new int[indexBound];
+                generation = 0;
+            }
+
+            openSet.ensureCapacity(indexBound);
+
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(openedIn, 0);
+                generation = 1;
+            }
+
+            isSearching = true;
+        }
+
+        private void end() {
+            openSet.clear();
+            isSearching = false;
+        }
+
+        private boolean isOpened(int index) {
+            return openedIn[index] == generation;
+        }
+
+        private void open(int index, int costToStart, int parentIndex) {
+            openedIn[index] = generation;
+            costToStartNode[index] = costToStart;
+            cameFrom[index] = parentIndex;
+        }
+    }
+}
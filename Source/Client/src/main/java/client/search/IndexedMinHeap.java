@@ -0,0 +1,199 @@
+package client.search;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap of {@code int} elements (e.g. grid indices) with {@code long} keys, which
+ * knows the heap slot of every element and therefore supports decreasing the key of an element
+ * that is already queued, instead of queueing it a second time.
+ * <p>
+ * Elements with equal keys are ordered exactly like {@link java.util.PriorityQueue} would order
+ * them, as both use the same sift-up and sift-down rules.
+ */
+class IndexedMinHeap {
+
+    private static final int NOT_QUEUED = -1;
+
+    private int[] heap;
+    private long[] keys;
+    private int[] slots;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new long[capacity];
+        this.slots = new int[capacity];
+        this.size = 0;
+
+        Arrays.fill(slots, NOT_QUEUED);
+    }
+
+    /**
+     * Grows the heap to hold elements in the range {@code [0; capacity)}. This also empties the
+     * heap, if it had to be grown.
+     *
+     * @param capacity the exclusive upper bound of all elements
+     */
+    void ensureCapacity(int capacity) {
+        if (capacity <= slots.length) {
+            return;
+        }
+
+        heap = new int[capacity];
+        keys = new long[capacity];
+        slots = new int[capacity];
+        size = 0;
+
+        Arrays.fill(slots, NOT_QUEUED);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int element) {
+        return slots[element] != NOT_QUEUED;
+    }
+
+    private void place(int slot, int element) {
+        heap[slot] = element;
+        slots[element] = slot;
+    }
+
+    private void siftUp(int slot, int element) {
+        long key = keys[element];
+
+        while (slot > 0) {
+            int parentSlot = (slot - 1) >>> 1;
+            int parent = heap[parentSlot];
+
+            if (key >= keys[parent]) {
+                break;
+            }
+
+            place(slot, parent);
+            slot = parentSlot;
+        }
+
+        place(slot, element);
+    }
+
+    private void siftDown(int slot, int element) {
+        long key = keys[element];
+        int half = size >>> 1;
+
+        while (slot < half) {
+            int childSlot = (slot << 1) + 1;
+            int child = heap[childSlot];
+            int rightSlot = childSlot + 1;
+
+            if (rightSlot < size && keys[child] > keys[heap[rightSlot]]) {
+                childSlot = rightSlot;
+                child = heap[childSlot];
+            }
+
+            if (key <= keys[child]) {
+                break;
+            }
+
+            place(slot, child);
+            slot = childSlot;
+        }
+
+        place(slot, element);
+    }
+
+    void push(int element, long key) {
+        keys[element] = key;
+        siftUp(size++, element);
+    }
+
+    /**
+     * Lowers the key of an already queued {@code element} and restores the heap order.
+     *
+     * @param element the queued element
+     * @param key the new key, which must not be greater than the current one
+     */
+    void decreaseKey(int element, long key) {
+        keys[element] = key;
+        siftUp(slots[element], element);
+    }
+
+    /**
+     * Changes the key of an already queued {@code element} in any direction and restores the
+     * heap order.
+     *
+     * @param element the queued element
+     * @param key the new key
+     */
+    void updateKey(int element, long key) {
+        int slot = slots[element];
+        long previousKey = keys[element];
+
+        keys[element] = key;
+
+        if (key < previousKey) {
+            siftUp(slot, element);
+        } else {
+            siftDown(slot, element);
+        }
+    }
+
+    void remove(int element) {
+        int slot = slots[element];
+        slots[element] = NOT_QUEUED;
+
+        int lastElement = heap[--size];
+
+        if (slot == size) {
+            return;
+        }
+
+        siftDown(slot, lastElement);
+
+        if (heap[slot] == lastElement) {
+            siftUp(slot, lastElement);
+        }
+    }
+
+    int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot peek into an empty heap");
+        }
+
+        return heap[0];
+    }
+
+    long peekKey() {
+        return keys[peek()];
+    }
+
+    int pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot pop from an empty heap");
+        }
+
+        int minElement = heap[0];
+        slots[minElement] = NOT_QUEUED;
+
+        int lastElement = heap[--size];
+
+        if (size > 0) {
+            siftDown(0, lastElement);
+        }
+
+        return minElement;
+    }
+
+    /**
+     * Removes all queued elements in time proportional to the number of queued elements.
+     */
+    void clear() {
+        for (int slot = 0; slot < size; ++slot) {
+            slots[heap[slot]] = NOT_QUEUED;
+        }
+
+        size = 0;
+    }
+}
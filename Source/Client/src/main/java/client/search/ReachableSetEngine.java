@@ -0,0 +1,137 @@
+package client.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import client.map.AdjacencyGraph;
+import client.map.Bitboard;
+import client.map.GameMap;
+import client.map.Position;
+
+/**
+ * Computes the map nodes, which can be reached from a fixed start by spending an exact travel
+ * budget, e.g. to find out where a player may have been a number of turns ago.
+ * <p>
+ * The reachable sets are layers of a dynamic program over the budget: the map nodes reachable
+ * with budget {@code b} are the neighbors of the map nodes reachable with {@code b - c}, where
+ * {@code c} is the travel cost of the step in between. As walks may visit map nodes more than
+ * once, each layer only depends on the few layers before it. Layers are kept as
+ * {@link Bitboard}s and only computed on demand, so asking for a larger budget later extends
+ * the existing layers instead of starting over.
+ */
+public class ReachableSetEngine {
+
+    private static final int NO_INDEX = -1;
+
+    private final GameMap map;
+    private final Position start;
+    private final AdjacencyGraph graph;
+    private final int maxTravelCost;
+    private final List<Bitboard> layers;
+
+    /**
+     * Creates an engine for walks on the {@code map}, which start at {@code start}.
+     *
+     * @param map the map to walk on
+     * @param start the position every walk starts at
+     * @throws IllegalArgumentException if the start is not part of the map
+     */
+    public ReachableSetEngine(GameMap map, Position start) {
+        int startIndex = map.indexOf(start);
+
+        if (startIndex == NO_INDEX) {
+            throw new IllegalArgumentException("The start " + start + " is not part of the map");
+        }
+
+        int indexBound = map.getIndexBound();
+
+        this.map = map;
+        this.start = start;
+        this.graph = map.getAdjacencyGraph();
+        this.layers = new ArrayList<>();
+
+        int maxCost = 0;
+
+        for (int edge = 0; edge < graph.getEdgeCount(); ++edge) {
+            if (graph.getTravelCost(edge) != AdjacencyGraph.NO_TRAVEL) {
+                maxCost = Math.max(maxCost, graph.getTravelCost(edge));
+            }
+        }
+
+        this.maxTravelCost = maxCost;
+
+        Bitboard startLayer = new Bitboard(indexBound);
+        startLayer.set(startIndex);
+        layers.add(startLayer);
+    }
+
+    public boolean isStartingAt(Position position) {
+        return start.equals(position);
+    }
+
+    public int getComputedBudget() {
+        return layers.size() - 1;
+    }
+
+    private Bitboard computeNextLayer() {
+        int budget = layers.size();
+        Bitboard layer = new Bitboard(map.getIndexBound());
+
+        for (int travelCost = 1; travelCost <= Math.min(maxTravelCost, budget); ++travelCost) {
+            Bitboard previousLayer = layers.get(budget - travelCost);
+
+            for (int index = previousLayer.nextSetBit(0); index != NO_INDEX;
+                 index = previousLayer.nextSetBit(index + 1)) {
+                for (int edge = graph.getFirstEdge(index); edge < graph.getLastEdge(index);
+                     ++edge) {
+                    if (graph.getTravelCost(edge) == travelCost) {
+                        layer.set(graph.getNeighbor(edge));
+                    }
+                }
+            }
+        }
+
+        return layer;
+    }
+
+    private Bitboard getLayer(int budget) {
+        while (layers.size() <= budget) {
+            layers.add(computeNextLayer());
+        }
+
+        return layers.get(budget);
+    }
+
+    /**
+     * Returns the grid indices of all map nodes, where a walk from the start ends after
+     * spending exactly {@code budget} travel costs, computing missing layers on the way.
+     *
+     * @param budget the travel costs to spend
+     * @return the reachable grid indices
+     */
+    public Bitboard getReachableAt(int budget) {
+        if (budget < 0) {
+            return new Bitboard(map.getIndexBound());
+        }
+
+        return new Bitboard(getLayer(budget));
+    }
+
+    /**
+     * Returns the positions of all map nodes, where a walk from the start ends after spending
+     * exactly {@code budget} travel costs.
+     *
+     * @param budget the travel costs to spend
+     * @return the reachable positions in grid order
+     */
+    public Collection<Position> getPositionsReachableAt(int budget) {
+        if (budget < 0) {
+            return List.of();
+        }
+
+        return getLayer(budget).stream()
+                .mapToObj(index -> map.getNodeAtIndex(index).getPosition())
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package client.search;
+
+import client.map.Position;
+
+/**
+ * The destination to walk to next, which reveals the player's treasure the fastest on average.
+ *
+ * @param destination the position to walk to next
+ * @param expectedTravelCost the mean travel cost until the treasure is in sight
+ * @param treasureCount the number of possible treasure positions the mean is taken over
+ */
+public record TreasureEstimate(Position destination, double expectedTravelCost,
+                               int treasureCount) {
+}
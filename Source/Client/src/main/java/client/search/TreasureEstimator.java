@@ -0,0 +1,200 @@
+package client.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import client.map.Bitboard;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapRegion;
+import client.map.Position;
+
+/**
+ * Estimates which destination reveals the player's treasure the fastest on average.
+ * <p>
+ * The treasure is equally likely to be on each unvisited grass map node of the target map,
+ * i.e. on each one, which has not been ruled out by the map updates so far. For each
+ * destination, the travel cost until the treasure is in sight is the travel cost to the
+ * destination, plus the travel cost onward to the closest position which has the treasure in
+ * sight, if the destination itself does not. As every treasure position is equally likely, the
+ * expected travel cost is the mean over all of them, which is computed exactly in a single pass
+ * over the travel costs. The destination with the lowest mean wins.
+ */
+public class TreasureEstimator {
+
+    private static final int NO_INDEX = -1;
+
+    private final GameMap map;
+    private final DistanceOracle distanceOracle;
+    private final int[][] cameras;
+
+    public TreasureEstimator(GameMap map, DistanceOracle distanceOracle) {
+        this.map = map;
+        this.distanceOracle = distanceOracle;
+        this.cameras = findCameras();
+    }
+
+    public boolean isEstimatingOn(GameMap otherMap) {
+        return map == otherMap;
+    }
+
+    /**
+     * The travel costs from the source to each destination and the sums of the travel costs
+     * from each destination onward, until each possible treasure position is in sight.
+     */
+    private record CostTable(int[] destinations, int treasureCount, int[] travelCosts,
+                             long[] revealCostSums) {
+    }
+
+    private Bitboard getTreasureBoard(MapRegion targetMap) {
+        Bitboard treasureBoard = targetMap.toBoard(map);
+        treasureBoard.and(map.getUnvisitedLootableBoard());
+
+        return treasureBoard;
+    }
+
+    private boolean isAccessible(int index) {
+        GameMapNode mapNode = map.getNodeAtIndex(index);
+
+        return mapNode != null && mapNode.isAccessible();
+    }
+
+    /**
+     * Returns the grid indices of the accessible positions, which have the map node at each
+     * grid index in sight. As mountains see further than grass, sight is not symmetric.
+     */
+    private int[][] findCameras() {
+        int indexBound = map.getIndexBound();
+        int[] cameraCounts = new int[indexBound];
+
+        for (int camera = 0; camera < indexBound; ++camera) {
+            if (isAccessible(camera)) {
+                map.forEachIndexInSight(camera, index -> ++cameraCounts[index]);
+            }
+        }
+
+        int[][] cameras = new int[indexBound][];
+        Arrays.setAll(cameras, index -> new int[cameraCounts[index]]);
+
+        for (int camera = 0; camera < indexBound; ++camera) {
+            if (isAccessible(camera)) {
+                int cameraIndex = camera;
+                map.forEachIndexInSight(camera, index -> {
+                    cameras[index][--cameraCounts[index]] = cameraIndex;
+                });
+            }
+        }
+
+        return cameras;
+    }
+
+    /**
+     * Returns the travel cost from the {@code destination} to the closest of the
+     * {@code cameras}, which have the treasure in sight.
+     */
+    private int computeRevealCost(int destination, int[] cameras) {
+        int revealCost = DistanceOracle.UNREACHABLE;
+
+        for (int camera : cameras) {
+            revealCost = Math.min(revealCost, distanceOracle.getTravelCost(destination, camera));
+        }
+
+        return revealCost;
+    }
+
+    private Optional<CostTable> buildCostTable(Position source, MapRegion targetMap,
+                                               Collection<Position> destinations) {
+        int sourceIndex = map.indexOf(source);
+
+        if (sourceIndex == NO_INDEX) {
+            return Optional.empty();
+        }
+
+        int[] destinationIndices = destinations.stream()
+                .mapToInt(map::indexOf)
+                .filter(index -> index != NO_INDEX)
+                .filter(index -> distanceOracle.getTravelCost(sourceIndex, index)
+                        != DistanceOracle.UNREACHABLE)
+                .distinct()
+                .toArray();
+        int[] treasureIndices = getTreasureBoard(targetMap).stream()
+                .filter(index -> computeRevealCost(sourceIndex, cameras[index])
+                        != DistanceOracle.UNREACHABLE)
+                .toArray();
+
+        if (destinationIndices.length == 0 || treasureIndices.length == 0) {
+            return Optional.empty();
+        }
+
+        int[] travelCosts = new int[destinationIndices.length];
+        long[] revealCostSums = new long[destinationIndices.length];
+
+        for (int d = 0; d < destinationIndices.length; ++d) {
+            travelCosts[d] = distanceOracle.getTravelCost(sourceIndex, destinationIndices[d]);
+
+            for (int treasureIndex : treasureIndices) {
+                revealCostSums[d] += computeRevealCost(destinationIndices[d],
+                                                       cameras[treasureIndex]);
+            }
+        }
+
+        return Optional.of(new CostTable(destinationIndices, treasureIndices.length,
+                                         travelCosts, revealCostSums));
+    }
+
+    private TreasureEstimate estimate(CostTable costTable) {
+        int treasureCount = costTable.treasureCount();
+        long[] costSums = new long[costTable.destinations().length];
+
+        // Sums instead of means keep the comparison exact
+        Arrays.setAll(costSums, d -> (long) treasureCount * costTable.travelCosts()[d]
+                + costTable.revealCostSums()[d]);
+
+        int best = 0;
+
+        for (int d = 1; d < costSums.length; ++d) {
+            if (costSums[d] < costSums[best] || (costSums[d] == costSums[best]
+                    && costTable.travelCosts()[d] < costTable.travelCosts()[best])) {
+                best = d;
+            }
+        }
+
+        Position destination = map.getNodeAtIndex(costTable.destinations()[best]).getPosition();
+
+        return new TreasureEstimate(destination, (double) costSums[best] / treasureCount,
+                                    treasureCount);
+    }
+
+    /**
+     * Estimates which of the {@code destinations} reveals the treasure hidden somewhere on the
+     * unvisited grass of the {@code targetMap} the fastest, when walking there from
+     * {@code source}.
+     *
+     * @param source the position to walk from
+     * @param targetMap the part of the map the treasure is hidden in
+     * @param destinations the positions to choose from
+     * @return the best destination, or nothing if no destination or treasure can be reached
+     */
+    public Optional<TreasureEstimate> estimateBestDestination(Position source,
+                                                              MapRegion targetMap,
+                                                              Collection<Position> destinations) {
+        return buildCostTable(source, targetMap, destinations).map(this::estimate);
+    }
+
+    /**
+     * Estimates which accessible position reveals the treasure hidden somewhere on the
+     * unvisited grass of the {@code targetMap} the fastest, when walking there from
+     * {@code source}.
+     *
+     * @param source the position to walk from
+     * @param targetMap the part of the map the treasure is hidden in
+     * @return the best destination, or nothing if no treasure can be reached
+     */
+    public Optional<TreasureEstimate> estimateBestDestination(Position source,
+                                                              MapRegion targetMap) {
+        Collection<Position> destinations = map.getPositionsByMapNode(GameMapNode::isAccessible);
+
+        return estimateBestDestination(source, targetMap, destinations);
+    }
+}
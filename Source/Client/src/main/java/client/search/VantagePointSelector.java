@@ -0,0 +1,178 @@
+package client.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.PriorityQueue;
+
+import client.map.Bitboard;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapRegion;
+import client.map.Position;
+
+/**
+ * Selects the positions to walk to, such that as many unknown map nodes as possible are
+ * revealed per travel cost, instead of sorting all unvisited map nodes by comparators.
+ * <p>
+ * Every accessible map node knows the map nodes in its sight as a {@link Bitboard} (a mountain
+ * reveals its neighborhood, grass only itself), so the number of still unknown map nodes a
+ * position would reveal is a single intersection count. Vantage positions are then chosen
+ * greedily by revealed map nodes per travel cost, i.e. the classic greedy set cover.
+ * <p>
+ * The priority queue of the greedy selection is updated lazily: as the fog clears, a position
+ * can only reveal fewer map nodes, so its stale priority is an upper bound and only the head of
+ * the queue has to be re-evaluated, until its priority turns out to be current.
+ */
+public class VantagePointSelector {
+
+    private static final int NO_INDEX = -1;
+
+    private static final Comparator<Candidate> BEST_CANDIDATE_FIRST = Comparator
+            .comparingDouble(Candidate::getRevealRate).reversed()
+            .thenComparingInt(Candidate::travelCost)
+            .thenComparingInt(Candidate::index);
+
+    private final GameMap map;
+    private final DistanceOracle distanceOracle;
+    private final Bitboard[] visibleBoards;
+
+    /**
+     * A position, which would reveal {@code revealCount} unknown map nodes for the
+     * {@code travelCost} it takes to get there.
+     */
+    private record Candidate(int index, int travelCost, int revealCount) {
+
+        private double getRevealRate() {
+            return (double) revealCount / Math.max(1, travelCost);
+        }
+    }
+
+    /**
+     * Creates a selector on the (full) {@code map}, whose travel costs are known by the
+     * {@code distanceOracle}.
+     *
+     * @param map the map to select vantage positions on
+     * @param distanceOracle the travel costs between all positions of the map
+     */
+    public VantagePointSelector(GameMap map, DistanceOracle distanceOracle) {
+        this.map = map;
+        this.distanceOracle = distanceOracle;
+        this.visibleBoards = new Bitboard[map.getIndexBound()];
+
+        for (int index = 0; index < visibleBoards.length; ++index) {
+            GameMapNode mapNode = map.getNodeAtIndex(index);
+
+            if (mapNode != null && mapNode.isAccessible()) {
+                visibleBoards[index] = map.getVisibleBoard(index);
+            }
+        }
+    }
+
+    public boolean isSelectingOn(GameMap otherMap) {
+        return map == otherMap;
+    }
+
+    /**
+     * Returns the grid indices of all unvisited grass map nodes, which are part of the
+     * {@code targetMap}.
+     */
+    private Bitboard getUnknownBoard(MapRegion targetMap) {
+        Bitboard unknownBoard = targetMap.toBoard(map);
+        unknownBoard.and(map.getUnvisitedLootableBoard());
+
+        return unknownBoard;
+    }
+
+    /**
+     * Collects a candidate for every accessible position, which has any of the map nodes of the
+     * {@code unknownBoard} in sight. Only the viewers of the unknown map nodes are looked at, so
+     * the fewer map nodes are left to reveal, the fewer positions are counted.
+     */
+    private PriorityQueue<Candidate> collectCandidates(Position source, Bitboard unknownBoard) {
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_CANDIDATE_FIRST);
+        Bitboard viewerBoard = new Bitboard(visibleBoards.length);
+
+        for (int index = unknownBoard.nextSetBit(0); index != NO_INDEX;
+             index = unknownBoard.nextSetBit(index + 1)) {
+            map.forEachViewerIndex(index, viewerBoard::set);
+        }
+
+        for (int index = viewerBoard.nextSetBit(0); index != NO_INDEX;
+             index = viewerBoard.nextSetBit(index + 1)) {
+            if (visibleBoards[index] == null) {
+                continue;
+            }
+
+            int revealCount = visibleBoards[index].countIntersection(unknownBoard);
+            OptionalInt travelCost = distanceOracle.getTravelCost(source,
+                                                                  map.getNodeAtIndex(index)
+                                                                          .getPosition());
+
+            if (revealCount > 0 && travelCost.isPresent()) {
+                candidates.add(new Candidate(index, travelCost.getAsInt(), revealCount));
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Greedily selects vantage positions by revealed unknown map nodes per travel cost from
+     * {@code source}, until every unvisited grass map node of the {@code targetMap}, which is
+     * in sight of any reachable position, is revealed.
+     *
+     * @param source the position the travel costs are measured from
+     * @param targetMap the part of the map to reveal
+     * @return the vantage positions in the order they were selected
+     */
+    public List<Position> selectVantagePositions(Position source, MapRegion targetMap) {
+        Bitboard unknownBoard = getUnknownBoard(targetMap);
+        PriorityQueue<Candidate> candidates = collectCandidates(source, unknownBoard);
+        List<Position> vantagePositions = new ArrayList<>();
+
+        while (!candidates.isEmpty() && !unknownBoard.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            Bitboard visibleBoard = visibleBoards[candidate.index()];
+            int revealCount = visibleBoard.countIntersection(unknownBoard);
+
+            if (revealCount == candidate.revealCount()) {
+                vantagePositions.add(map.getNodeAtIndex(candidate.index()).getPosition());
+                unknownBoard.andNot(visibleBoard);
+            } else if (revealCount > 0) {
+                candidates.add(new Candidate(candidate.index(), candidate.travelCost(),
+                                             revealCount));
+            }
+        }
+
+        return vantagePositions;
+    }
+
+    /**
+     * Selects the single position, which reveals the most unknown map nodes of the
+     * {@code targetMap} per travel cost from {@code source}.
+     *
+     * @param source the position the travel costs are measured from
+     * @param targetMap the part of the map to reveal
+     * @return the best vantage position, or nothing if there is nothing left to reveal
+     */
+    public Optional<Position> selectNextVantagePosition(Position source,
+                                                        MapRegion targetMap) {
+        return selectNextVantagePosition(source, getUnknownBoard(targetMap));
+    }
+
+    /**
+     * Selects the single position, which reveals the most map nodes of the {@code targetBoard}
+     * per travel cost from {@code source}, e.g. the cheapest position to see a single map node.
+     *
+     * @param source the position the travel costs are measured from
+     * @param targetBoard the grid indices of the map nodes to reveal
+     * @return the best vantage position, or nothing if no target is in sight of any position
+     */
+    public Optional<Position> selectNextVantagePosition(Position source, Bitboard targetBoard) {
+        return Optional.ofNullable(collectCandidates(source, targetBoard).peek())
+                .map(candidate -> map.getNodeAtIndex(candidate.index()).getPosition());
+    }
+}
@@ -0,0 +1,115 @@
+package client.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import client.map.GameMap;
+
+/**
+ * Validates pools of candidate half maps in parallel on a {@link ForkJoinPool}, such that
+ * generation, scoring and testing pipelines can validate at the throughput of all cores.
+ * <p>
+ * The candidates are validated in chunks of a few candidates per core. Once a chunk completes
+ * the requested amount of valid half maps, the validation stops and the remaining candidates
+ * are left untouched. To keep the results deterministic, the valid half maps that come first in
+ * the batch are kept, instead of the ones that happened to be validated first.
+ */
+public class BatchHalfMapValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchHalfMapValidator.class);
+
+    private static final int CHUNK_SIZE_PER_CORE = 16;
+
+    private final HalfMapValidator validator;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BatchHalfMapValidator(HalfMapValidator validator, ForkJoinPool pool) {
+        this.validator = validator;
+        this.pool = pool;
+        this.chunkSize = pool.getParallelism() * CHUNK_SIZE_PER_CORE;
+    }
+
+    public BatchHalfMapValidator() {
+        this(new HalfMapValidator(), ForkJoinPool.commonPool());
+    }
+
+    private List<HalfMapValidationResult> validateChunk(List<GameMap> chunk, int firstIndex) {
+        // Parallel streams run on the pool of the task that starts them
+        return pool.submit(() -> IntStream.range(0, chunk.size())
+                        .parallel()
+                        .mapToObj(i -> new HalfMapValidationResult(
+                                firstIndex + i, chunk.get(i),
+                                validator.findViolatedRules(chunk.get(i))))
+                        .toList())
+                .join();
+    }
+
+    /**
+     * Validates the {@code candidates} in parallel until {@code maxValidMaps} valid half maps
+     * have been found or all candidates are validated, whichever comes first.
+     *
+     * @param candidates the half maps to validate, which may be an infinite stream
+     * @param maxValidMaps the amount of valid half maps to stop after
+     * @return the results of all validated candidates
+     */
+    public BatchValidationReport validate(Stream<GameMap> candidates, int maxValidMaps) {
+        if (maxValidMaps < 1) {
+            throw new IllegalArgumentException("There must be at least one valid map to find");
+        }
+
+        long startTime = System.nanoTime();
+
+        Iterator<GameMap> candidateIterator = candidates.iterator();
+        List<HalfMapValidationResult> results = new ArrayList<>();
+        List<GameMap> chunk = new ArrayList<>(chunkSize);
+        int validMapCount = 0;
+
+        while (validMapCount < maxValidMaps && candidateIterator.hasNext()) {
+            chunk.clear();
+
+            while (chunk.size() < chunkSize && candidateIterator.hasNext()) {
+                chunk.add(candidateIterator.next());
+            }
+
+            for (HalfMapValidationResult result : validateChunk(chunk, results.size())) {
+                results.add(result);
+                validMapCount += result.isValid() ? 1 : 0;
+
+                if (validMapCount == maxValidMaps) {
+                    break;
+                }
+            }
+        }
+
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+        logger.debug("Validated {} half maps to find {} valid ones in {} ms",
+                     results.size(), validMapCount, wallTime.toMillis());
+
+        return new BatchValidationReport(List.copyOf(results), wallTime);
+    }
+
+    public BatchValidationReport validate(Collection<GameMap> candidates, int maxValidMaps) {
+        return validate(candidates.stream(), maxValidMaps);
+    }
+
+    /**
+     * Validates all {@code candidates} in parallel without stopping early.
+     *
+     * @param candidates the half maps to validate
+     * @return the results of all candidates
+     */
+    public BatchValidationReport validate(Collection<GameMap> candidates) {
+        return validate(candidates.stream(), Integer.MAX_VALUE);
+    }
+}
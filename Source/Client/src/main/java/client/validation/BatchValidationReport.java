@@ -0,0 +1,27 @@
+package client.validation;
+
+import java.time.Duration;
+import java.util.List;
+
+import client.map.GameMap;
+
+/**
+ * The outcome of validating a batch of half maps, which only covers the candidates up to the
+ * last requested valid half map, if the validation stopped early.
+ *
+ * @param results the results of all validated candidates, in the order of the batch
+ * @param wallTime the time it took to validate the candidates
+ */
+public record BatchValidationReport(List<HalfMapValidationResult> results, Duration wallTime) {
+
+    public List<GameMap> getValidMaps() {
+        return results.stream()
+                .filter(HalfMapValidationResult::isValid)
+                .map(HalfMapValidationResult::map)
+                .toList();
+    }
+
+    public int getValidatedCount() {
+        return results.size();
+    }
+}
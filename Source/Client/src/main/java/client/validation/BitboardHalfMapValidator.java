@@ -0,0 +1,146 @@
+package client.validation;
+
+import static client.validation.HalfMapBitboard.HALF_MAP_SIZE;
+import static client.validation.HalfMapBitboard.HALF_MAP_X_SIZE;
+import static client.validation.HalfMapBitboard.HALF_MAP_Y_SIZE;
+
+import client.map.GameMap;
+
+/**
+ * Validates half maps encoded as {@link HalfMapBitboard} against the same rules as the
+ * {@link HalfMapValidator}, but only with bitwise operations and population counts on single
+ * words, such that a generator can check thousands of candidates per millisecond.
+ * <p>
+ * The reachability rule flood-fills the accessible fields by repeatedly shifting the reached
+ * fields one step in each direction, masking off fields that would wrap around a row.
+ */
+public class BitboardHalfMapValidator {
+
+    private static final long FULL_MASK = (1L << HALF_MAP_SIZE) - 1;
+    private static final long ORIGIN_FIELD = 1L;
+
+    private static final long WEST_COLUMN_MASK = computeColumnMask(0);
+    private static final long EAST_COLUMN_MASK = computeColumnMask(HALF_MAP_X_SIZE - 1);
+    private static final long NORTH_ROW_MASK = computeRowMask(0);
+    private static final long SOUTH_ROW_MASK = computeRowMask(HALF_MAP_Y_SIZE - 1);
+
+    private static final long[] BORDER_MASKS = {
+            NORTH_ROW_MASK, EAST_COLUMN_MASK, SOUTH_ROW_MASK, WEST_COLUMN_MASK
+    };
+
+    private static long computeColumnMask(int x) {
+        long mask = 0L;
+
+        for (int y = 0; y < HALF_MAP_Y_SIZE; ++y) {
+            mask |= 1L << (x + y * HALF_MAP_X_SIZE);
+        }
+
+        return mask;
+    }
+
+    private static long computeRowMask(int y) {
+        return ((1L << HALF_MAP_X_SIZE) - 1) << (y * HALF_MAP_X_SIZE);
+    }
+
+    /**
+     * Returns all fields one step away from any of the {@code fields}, without wrapping around
+     * the rows or leaving the half map.
+     */
+    private static long expand(long fields) {
+        long eastward = (fields << 1) & ~WEST_COLUMN_MASK;
+        long westward = (fields >>> 1) & ~EAST_COLUMN_MASK;
+        long southward = fields << HALF_MAP_X_SIZE;
+        long northward = fields >>> HALF_MAP_X_SIZE;
+
+        return (eastward | westward | southward | northward) & FULL_MASK;
+    }
+
+    private static long getAccessibleFields(HalfMapBitboard board) {
+        return board.grass() | board.mountains();
+    }
+
+    public boolean isDimensionSatisfied(HalfMapBitboard board) {
+        return board.fields() == FULL_MASK;
+    }
+
+    public boolean isTreasurePlacementSatisfied(HalfMapBitboard board) {
+        return board.treasures() == 0L;
+    }
+
+    public boolean isTerrainDistributionSatisfied(HalfMapBitboard board) {
+        return GameMapTerrainDistributionValidator.isDistributionSatisfied(
+                Long.bitCount(board.grass()),
+                Long.bitCount(board.mountains()),
+                Long.bitCount(board.water()));
+    }
+
+    public boolean isBorderAccessibilitySatisfied(HalfMapBitboard board) {
+        long accessibleFields = getAccessibleFields(board);
+
+        for (long borderMask : BORDER_MASKS) {
+            int borderFieldCount = Long.bitCount(board.fields() & borderMask);
+            int accessibleFieldCount = Long.bitCount(accessibleFields & borderMask);
+
+            if (!GameMapBorderAccessibilityValidator.isBorderAccessible(borderFieldCount,
+                                                                        accessibleFieldCount)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public boolean isFortPlacementSatisfied(HalfMapBitboard board) {
+        long fortFields = board.playerForts() | board.enemyForts();
+
+        return Long.bitCount(fortFields) == 1
+                && (fortFields & ~board.grass()) == 0L
+                && board.enemyForts() == 0L;
+    }
+
+    public boolean isTerrainReachabilitySatisfied(HalfMapBitboard board) {
+        long accessibleFields = getAccessibleFields(board);
+
+        // Like the object-based rule, start at the origin, if there is no fort at all
+        long reachedFields = board.playerForts() == 0L
+                ? ORIGIN_FIELD
+                : Long.lowestOneBit(board.playerForts());
+        long previousFields;
+
+        do {
+            previousFields = reachedFields;
+            reachedFields |= expand(reachedFields) & accessibleFields;
+        } while (reachedFields != previousFields);
+
+        return (accessibleFields & ~reachedFields) == 0L;
+    }
+
+    /**
+     * Returns whether the encoded half map satisfies all rules, stopping at the first violated
+     * rule.
+     *
+     * @param board the encoded half map to check
+     * @return whether the half map is valid
+     */
+    public boolean isValid(HalfMapBitboard board) {
+        return isDimensionSatisfied(board)
+                && isTreasurePlacementSatisfied(board)
+                && isTerrainDistributionSatisfied(board)
+                && isBorderAccessibilitySatisfied(board)
+                && isFortPlacementSatisfied(board)
+                && isTerrainReachabilitySatisfied(board);
+    }
+
+    /**
+     * Returns whether the {@code map} satisfies all rules, where maps that do not fit into the
+     * half map's grid are never valid.
+     *
+     * @param map the map to check
+     * @return whether the map is valid
+     */
+    public boolean isValid(GameMap map) {
+        return HalfMapBitboard.fromMap(map)
+                .map(this::isValid)
+                .orElse(false);
+    }
+}
@@ -1,32 +1,46 @@
 package client.validation;
 
 import java.util.Arrays;
-import java.util.Collection;
 
 import client.map.GameMap;
-import client.map.GameMapNode;
 import client.map.MapDirection;
 
 public class GameMapBorderAccessibilityValidator implements GameMapValidationRule {
 
     private static final int BORDER_ACCESS_MIN_PERCENTAGE = 51;
 
-    private static boolean isBorderAccessible(GameMap map, MapDirection direction) {
-        Collection<GameMapNode> borderNodes = map.getBorderNodes(direction);
-
-        int nodeCount = borderNodes.size();
+    /**
+     * Counts how many more fields of a border with {@code nodeCount} fields have to be
+     * accessible, such that at least 51 % of the border is accessible.
+     *
+     * @param nodeCount the number of fields on the border
+     * @param accessibleNodeCount the number of accessible fields on the border
+     * @return the number of missing accessible fields, or zero if the border is accessible
+     */
+    public static int countMissingAccessibleNodes(int nodeCount, int accessibleNodeCount) {
         int minAccessibleNodeCount = Math.ceilDiv(BORDER_ACCESS_MIN_PERCENTAGE * nodeCount, 100);
-        long accessibleNodeCount = borderNodes.stream().filter(GameMapNode::isAccessible).count();
 
-        return accessibleNodeCount >= minAccessibleNodeCount;
+        return Math.max(0, minAccessibleNodeCount - accessibleNodeCount);
+    }
+
+    static boolean isBorderAccessible(int nodeCount, int accessibleNodeCount) {
+        return countMissingAccessibleNodes(nodeCount, accessibleNodeCount) == 0;
+    }
+
+    private static boolean isBorderAccessible(GameMap map, MapDirection direction) {
+        return isBorderAccessible(map.countBorderNodes(direction),
+                                  map.countAccessibleBorderNodes(direction));
     }
 
     @Override
-    public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
-        boolean areBordersInaccessible = !Arrays.stream(MapDirection.values())
+    public boolean isSatisfiedBy(GameMap map) {
+        return Arrays.stream(MapDirection.values())
                 .allMatch(direction -> isBorderAccessible(map, direction));
+    }
 
-        if (areBordersInaccessible) {
+    @Override
+    public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
+        if (!isSatisfiedBy(map)) {
             note.addEntry(this,
                           String.format("Game map has a border, where less than %d %% is accessible",
                                         BORDER_ACCESS_MIN_PERCENTAGE));
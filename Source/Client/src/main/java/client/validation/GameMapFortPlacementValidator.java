@@ -7,6 +7,15 @@ import client.map.GameMapNode;
 
 public class GameMapFortPlacementValidator implements GameMapValidationRule {
 
+    @Override
+    public boolean isSatisfiedBy(GameMap map) {
+        Collection<GameMapNode> fortNodes = map.getMapNodes(GameMapNode::hasAnyFort);
+
+        return fortNodes.size() == 1
+                && fortNodes.stream().allMatch(GameMapNode::isLootable)
+                && fortNodes.stream().noneMatch(GameMapNode::hasEnemyFort);
+    }
+
     @Override
     public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
         Collection<GameMapNode> fortNodes = map.getMapNodes(GameMapNode::hasAnyFort);
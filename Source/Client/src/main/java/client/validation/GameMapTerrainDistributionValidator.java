@@ -1,10 +1,6 @@
 package client.validation;
 
-import java.util.Collections;
-import java.util.List;
-
 import client.map.GameMap;
-import client.map.GameMapNode;
 import client.map.TerrainType;
 
 public class GameMapTerrainDistributionValidator implements GameMapValidationRule {
@@ -13,15 +9,24 @@ public class GameMapTerrainDistributionValidator implements GameMapValidationRul
     private static final int MOUNTAIN_MIN_AMOUNT = 5;
     private static final int WATER_MIN_AMOUNT = 7;
 
+    static boolean isDistributionSatisfied(int grassCount, int mountainCount, int waterCount) {
+        return grassCount >= GRASS_MIN_AMOUNT
+                && mountainCount >= MOUNTAIN_MIN_AMOUNT
+                && waterCount >= WATER_MIN_AMOUNT;
+    }
+
     @Override
-    public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
-        List<TerrainType> terrains = map.getMapNodes().stream()
-                .map(GameMapNode::getTerrainType)
-                .toList();
+    public boolean isSatisfiedBy(GameMap map) {
+        return isDistributionSatisfied(map.countMapNodes(TerrainType.GRASS),
+                                       map.countMapNodes(TerrainType.MOUNTAIN),
+                                       map.countMapNodes(TerrainType.WATER));
+    }
 
-        int grassCount = Collections.frequency(terrains, TerrainType.GRASS);
-        int mountainCount = Collections.frequency(terrains, TerrainType.MOUNTAIN);
-        int waterCount = Collections.frequency(terrains, TerrainType.WATER);
+    @Override
+    public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
+        int grassCount = map.countMapNodes(TerrainType.GRASS);
+        int mountainCount = map.countMapNodes(TerrainType.MOUNTAIN);
+        int waterCount = map.countMapNodes(TerrainType.WATER);
 
         if (grassCount < GRASS_MIN_AMOUNT) {
             note.addEntry(this,
@@ -1,46 +1,29 @@
 package client.validation;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-
 import client.map.GameMap;
 import client.map.GameMapNode;
 import client.map.Position;
+import client.search.ConnectedComponents;
 
 public class GameMapTerrainReachabilityValidator implements GameMapValidationRule {
 
-    /**
-     * Flood-fills the specified {@link GameMap} by recursively traversing all reachable neighbors
-     * starting from {@code position} and marking each visited {@link GameMapNode} by adding their
-     * position in {@code visitedNodes}.
-     * <p>
-     * To check whether a specific set of {@link GameMapNode} were reached, check whether
-     * {@code visitedNodes} contain all desired position with {@link Set#containsAll(Collection)}.
-     *
-     * @param map the map to flood-fill on
-     * @param position the starting position
-     * @param visitedNodes all visited positions while traversing
-     */
-    private static void floodFillMap(GameMap map, Position position, Set<Position> visitedNodes) {
-        visitedNodes.add(position);
-
-        map.getReachableNeighbors(position).stream()
-                .filter(mapNode -> !visitedNodes.contains(mapNode.getPosition()))
-                .forEach(mapNode -> floodFillMap(map, mapNode.getPosition(), visitedNodes));
-    }
-
     @Override
-    public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
+    public boolean isSatisfiedBy(GameMap map) {
         Position fortPosition = map.getPlayerFortPosition().orElse(Position.originPosition);
+        int fortIndex = map.indexOf(fortPosition);
 
-        Collection<Position> accessiblePositions = map.getPositionsByMapNode(GameMapNode::isAccessible);
+        long accessibleNodeCount = map.getMapNodes().stream()
+                .filter(GameMapNode::isAccessible)
+                .count();
 
-        Set<Position> visitedNodes = HashSet.newHashSet(accessiblePositions.size());
+        int reachableNodeCount = ConnectedComponents.fromMap(map).countReachableFrom(fortIndex);
 
-        floodFillMap(map, fortPosition, visitedNodes);
+        return reachableNodeCount >= accessibleNodeCount;
+    }
 
-        if (!visitedNodes.containsAll(accessiblePositions)) {
+    @Override
+    public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
+        if (!isSatisfiedBy(map)) {
             note.addEntry(this,
                           "Game map does contain accessible fields, that cannot be reached (i.e. islands)");
         }
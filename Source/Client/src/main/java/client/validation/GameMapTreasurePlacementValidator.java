@@ -1,13 +1,18 @@
 package client.validation;
 
 import client.map.GameMap;
-import client.map.GameMapNode;
+import client.map.TreasureState;
 
 public class GameMapTreasurePlacementValidator implements GameMapValidationRule {
 
+    @Override
+    public boolean isSatisfiedBy(GameMap map) {
+        return !map.anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT);
+    }
+
     @Override
     public void validate(GameMap map, Notification<? super GameMapValidationRule> note) {
-        if (map.anyMapNodeMatch(GameMapNode::hasTreasure)) {
+        if (!isSatisfiedBy(map)) {
             note.addEntry(this, "Game map has at least one field with a treasure");
         }
     }
@@ -5,4 +5,12 @@ import client.map.GameMap;
 public interface GameMapValidationRule {
 
     void validate(GameMap map, Notification<? super GameMapValidationRule> note);
+
+    /**
+     * Returns whether the {@code map} satisfies this rule, without building any messages.
+     *
+     * @param map the map to check
+     * @return whether the map satisfies this rule
+     */
+    boolean isSatisfiedBy(GameMap map);
 }
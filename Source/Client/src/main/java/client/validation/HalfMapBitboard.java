@@ -0,0 +1,134 @@
+package client.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.Position;
+import client.map.TerrainType;
+import client.map.TreasureState;
+
+/**
+ * A half map encoded as layers of single {@code long} words, where bit {@code x + y * 10}
+ * stands for the field at {@code (x, y)}, as all 50 fields of a half map fit into one word.
+ * <p>
+ * Each terrain bit must also be a field bit and every field has exactly one terrain.
+ *
+ * @param fields      the fields present in the half map
+ * @param grass       the fields with grass
+ * @param mountains   the fields with mountains
+ * @param water       the fields with water
+ * @param playerForts the fields with the player's fort
+ * @param enemyForts  the fields with the enemy's fort
+ * @param treasures   the fields with the player's treasure
+ */
+public record HalfMapBitboard(long fields, long grass, long mountains, long water,
+                              long playerForts, long enemyForts, long treasures) {
+
+    static final int HALF_MAP_X_SIZE = 10;
+    static final int HALF_MAP_Y_SIZE = 5;
+    static final int HALF_MAP_SIZE = HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE;
+
+    public static int indexOf(Position position) {
+        return position.x() + position.y() * HALF_MAP_X_SIZE;
+    }
+
+    public static Position positionOf(int index) {
+        return new Position(index % HALF_MAP_X_SIZE, index / HALF_MAP_X_SIZE);
+    }
+
+    private static boolean isInside(Position position) {
+        return position.x() >= 0 && position.x() < HALF_MAP_X_SIZE
+                && position.y() >= 0 && position.y() < HALF_MAP_Y_SIZE;
+    }
+
+    /**
+     * Encodes the {@code map} into layers of words, if all of its map nodes lie within the
+     * half map's grid, i.e. {@code (0, 0)} to {@code (9, 4)}.
+     *
+     * @param map the map to encode
+     * @return the encoded half map, or nothing if the map does not fit into the grid
+     */
+    public static Optional<HalfMapBitboard> fromMap(GameMap map) {
+        long fields = 0L;
+        long grass = 0L;
+        long mountains = 0L;
+        long water = 0L;
+        long playerForts = 0L;
+        long enemyForts = 0L;
+        long treasures = 0L;
+
+        for (GameMapNode mapNode : map.getMapNodes()) {
+            if (!isInside(mapNode.getPosition())) {
+                return Optional.empty();
+            }
+
+            long bit = 1L << indexOf(mapNode.getPosition());
+            fields |= bit;
+
+            switch (mapNode.getTerrainType()) {
+                case GRASS -> grass |= bit;
+                case MOUNTAIN -> mountains |= bit;
+                case WATER -> water |= bit;
+            }
+
+            if (mapNode.hasPlayerFort()) {
+                playerForts |= bit;
+            } else if (mapNode.hasEnemyFort()) {
+                enemyForts |= bit;
+            }
+
+            if (mapNode.getTreasureState() == TreasureState.PLAYER_TREASURE_PRESENT) {
+                treasures |= bit;
+            }
+        }
+
+        return Optional.of(new HalfMapBitboard(fields, grass, mountains, water,
+                                               playerForts, enemyForts, treasures));
+    }
+
+    private TerrainType getTerrainTypeAt(long bit) {
+        if ((grass & bit) != 0) {
+            return TerrainType.GRASS;
+        }
+
+        return (mountains & bit) != 0 ? TerrainType.MOUNTAIN : TerrainType.WATER;
+    }
+
+    private FortState getFortStateAt(long bit) {
+        if ((playerForts & bit) != 0) {
+            return FortState.PLAYER_FORT_PRESENT;
+        }
+
+        return (enemyForts & bit) != 0 ? FortState.ENEMY_FORT_PRESENT : FortState.UNKNOWN;
+    }
+
+    private TreasureState getTreasureStateAt(long bit) {
+        return (treasures & bit) != 0
+                ? TreasureState.PLAYER_TREASURE_PRESENT
+                : TreasureState.UNKNOWN;
+    }
+
+    /**
+     * Decodes the layers back into a {@link GameMap}, where all fort and treasure states not
+     * encoded in the layers are unknown.
+     *
+     * @return the decoded half map
+     */
+    public GameMap intoMap() {
+        List<GameMapNode> mapNodes = new ArrayList<>(Long.bitCount(fields));
+
+        for (long remaining = fields; remaining != 0; remaining &= remaining - 1) {
+            long bit = Long.lowestOneBit(remaining);
+            Position position = positionOf(Long.numberOfTrailingZeros(bit));
+
+            mapNodes.add(new GameMapNode(position, getTerrainTypeAt(bit), getFortStateAt(bit),
+                                         getTreasureStateAt(bit)));
+        }
+
+        return new GameMap(mapNodes);
+    }
+}
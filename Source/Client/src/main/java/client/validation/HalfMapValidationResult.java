@@ -0,0 +1,20 @@
+package client.validation;
+
+import java.util.List;
+
+import client.map.GameMap;
+
+/**
+ * The outcome of validating one candidate out of a batch of half maps.
+ *
+ * @param candidateIndex the position of the candidate in the batch
+ * @param map the validated half map
+ * @param violatedRules all rules the half map violates
+ */
+public record HalfMapValidationResult(int candidateIndex, GameMap map,
+                                      List<GameMapValidationRule> violatedRules) {
+
+    public boolean isValid() {
+        return violatedRules.isEmpty();
+    }
+}
@@ -6,13 +6,35 @@ import client.map.GameMap;
 
 public class HalfMapValidator {
 
+    private static final GameMapValidationRule dimensionRule = new GameMapDimensionValidator();
+    private static final GameMapValidationRule distributionRule =
+            new GameMapTerrainDistributionValidator();
+    private static final GameMapValidationRule borderRule =
+            new GameMapBorderAccessibilityValidator();
+    private static final GameMapValidationRule fortRule = new GameMapFortPlacementValidator();
+    private static final GameMapValidationRule treasureRule =
+            new GameMapTreasurePlacementValidator();
+    private static final GameMapValidationRule reachabilityRule =
+            new GameMapTerrainReachabilityValidator();
+
     private static final List<GameMapValidationRule> validationRules = List.of(
-            new GameMapDimensionValidator(),
-            new GameMapTerrainDistributionValidator(),
-            new GameMapBorderAccessibilityValidator(),
-            new GameMapFortPlacementValidator(),
-            new GameMapTreasurePlacementValidator(),
-            new GameMapTerrainReachabilityValidator()
+            dimensionRule,
+            distributionRule,
+            borderRule,
+            fortRule,
+            treasureRule,
+            reachabilityRule
+    );
+
+    // The same rules ordered from the cheapest to the most expensive check, such that a
+    // fail-fast validation spends as little time as possible on invalid maps
+    private static final List<GameMapValidationRule> rulesByCost = List.of(
+            dimensionRule,
+            treasureRule,
+            distributionRule,
+            borderRule,
+            fortRule,
+            reachabilityRule
     );
 
     public Notification<GameMapValidationRule> validate(GameMap map) {
@@ -22,4 +44,29 @@ public class HalfMapValidator {
 
         return validationErrors;
     }
+
+    /**
+     * Returns whether the {@code map} satisfies all rules, stopping at the first violated rule
+     * and without building any messages.
+     * <p>
+     * Use {@link #validate(GameMap)} to find out why a map is invalid.
+     *
+     * @param map the map to check
+     * @return whether the map is valid
+     */
+    public boolean isValid(GameMap map) {
+        return rulesByCost.stream().allMatch(rule -> rule.isSatisfiedBy(map));
+    }
+
+    /**
+     * Returns all rules the {@code map} violates, without building any messages.
+     *
+     * @param map the map to check
+     * @return the violated rules
+     */
+    public List<GameMapValidationRule> findViolatedRules(GameMap map) {
+        return validationRules.stream()
+                .filter(rule -> !rule.isSatisfiedBy(map))
+                .toList();
+    }
 }
@@ -0,0 +1,303 @@
+package client.validation;
+
+import java.util.Collection;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.map.PositionArea;
+import client.map.TerrainType;
+
+/**
+ * Validates a half map against the rules of the {@link HalfMapValidator}, while the terrain of
+ * single fields keeps changing, e.g. during a local search.
+ * <p>
+ * Each rule keeps its own state (terrain counts, accessible fields per border, whether all
+ * accessible fields are reachable), which a terrain change only updates for the rules it can
+ * affect. The dimension and treasure rules are checked once, as terrain changes never affect
+ * them, and reachability is only flood-filled again when a change could have split the map.
+ * <p>
+ * Besides telling whether the half map is valid, the same state measures how far the half map
+ * is from satisfying the border accessibility and terrain reachability rules, which generators
+ * and repairers use to decide where water can go.
+ */
+public class IncrementalHalfMapValidator {
+
+    private static final MapDirection[] DIRECTIONS = MapDirection.values();
+    private static final int NO_INDEX = -1;
+
+    private final GameMap map;
+    private final TerrainType[] terrains;
+
+    private final boolean areTerrainIndependentRulesSatisfied;
+    private final int fortIndex;
+
+    private final int[] terrainCounts;
+
+    private final boolean[][] borderMembership;
+    private final int[] borderNodeCounts;
+    private final int[] accessibleBorderNodeCounts;
+
+    private boolean isReachabilityKnown;
+    private boolean[] reachableNodes;
+    private int unreachableCount;
+
+    public IncrementalHalfMapValidator(GameMap map) {
+        this.map = map;
+        this.terrains = new TerrainType[map.getIndexBound()];
+        this.terrainCounts = new int[TerrainType.values().length];
+        this.borderMembership = new boolean[DIRECTIONS.length][map.getIndexBound()];
+        this.borderNodeCounts = new int[DIRECTIONS.length];
+        this.accessibleBorderNodeCounts = new int[DIRECTIONS.length];
+
+        Collection<GameMapNode> fortNodes = map.getMapNodes(GameMapNode::hasAnyFort);
+        boolean isSingleOwnFort = fortNodes.size() == 1
+                && fortNodes.stream().noneMatch(GameMapNode::hasEnemyFort);
+
+        this.areTerrainIndependentRulesSatisfied = isSingleOwnFort
+                && new GameMapDimensionValidator().isSatisfiedBy(map)
+                && new GameMapTreasurePlacementValidator().isSatisfiedBy(map);
+        this.fortIndex = map.indexOf(map.getPlayerFortPosition().orElse(Position.originPosition));
+
+        PositionArea area = map.getArea();
+
+        for (GameMapNode mapNode : map.getMapNodes()) {
+            int index = map.indexOf(mapNode.getPosition());
+            terrains[index] = mapNode.getTerrainType();
+            ++terrainCounts[terrains[index].ordinal()];
+
+            for (MapDirection direction : DIRECTIONS) {
+                if (area.getBorderPredicate(direction).test(mapNode.getPosition())) {
+                    borderMembership[direction.ordinal()][index] = true;
+                    ++borderNodeCounts[direction.ordinal()];
+                    accessibleBorderNodeCounts[direction.ordinal()] += isAccessible(index) ? 1 : 0;
+                }
+            }
+        }
+
+        this.isReachabilityKnown = false;
+        this.reachableNodes = new boolean[map.getIndexBound()];
+    }
+
+    private int indexOfInside(Position position) {
+        int index = map.indexOf(position);
+
+        if (index == NO_INDEX) {
+            throw new IllegalArgumentException("The position " + position
+                                                       + " is outside of the map");
+        }
+
+        return index;
+    }
+
+    private boolean isAccessible(int index) {
+        return index != NO_INDEX && terrains[index] != null && terrains[index] != TerrainType.WATER;
+    }
+
+    private boolean hasAccessibleNeighbor(int index) {
+        for (MapDirection direction : DIRECTIONS) {
+            if (isAccessible(map.getNeighborIndex(index, direction))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Changes the terrain of the field at {@code position} and updates the state of all rules,
+     * which are affected by the change.
+     *
+     * @param position the position of the changed field
+     * @param terrainType the new terrain of the field
+     */
+    public void changeTerrain(Position position, TerrainType terrainType) {
+        int index = indexOfInside(position);
+        boolean wasAccessible = isAccessible(index);
+
+        --terrainCounts[terrains[index].ordinal()];
+        terrains[index] = terrainType;
+        ++terrainCounts[terrainType.ordinal()];
+
+        boolean isNowAccessible = isAccessible(index);
+
+        if (wasAccessible == isNowAccessible) {
+            return;
+        }
+
+        for (MapDirection direction : DIRECTIONS) {
+            if (borderMembership[direction.ordinal()][index]) {
+                accessibleBorderNodeCounts[direction.ordinal()] += isNowAccessible ? 1 : -1;
+            }
+        }
+
+        // A new accessible field next to a connected map keeps the map connected, while any
+        // other change might split or join the accessible fields
+        boolean staysReachable = isReachabilityKnown && unreachableCount == 0 && isNowAccessible
+                && index != fortIndex && hasAccessibleNeighbor(index);
+
+        isReachabilityKnown = staysReachable;
+        reachableNodes[index] = staysReachable;
+    }
+
+    /**
+     * Returns the current terrain of the field at {@code position}.
+     *
+     * @param position the position of the field
+     * @return the terrain of the field with all terrain changes so far
+     */
+    public TerrainType getTerrainTypeAt(Position position) {
+        return terrains[indexOfInside(position)];
+    }
+
+    private boolean isFortPlacementSatisfied() {
+        return fortIndex != NO_INDEX && terrains[fortIndex] == TerrainType.GRASS;
+    }
+
+    private boolean isTerrainDistributionSatisfied() {
+        return GameMapTerrainDistributionValidator.isDistributionSatisfied(
+                terrainCounts[TerrainType.GRASS.ordinal()],
+                terrainCounts[TerrainType.MOUNTAIN.ordinal()],
+                terrainCounts[TerrainType.WATER.ordinal()]);
+    }
+
+    private int countMissingAccessibleNodes(int border) {
+        return GameMapBorderAccessibilityValidator.countMissingAccessibleNodes(
+                borderNodeCounts[border], accessibleBorderNodeCounts[border]);
+    }
+
+    private int countMissingAccessibleBorderNodes() {
+        int missingCount = 0;
+
+        for (MapDirection direction : DIRECTIONS) {
+            missingCount += countMissingAccessibleNodes(direction.ordinal());
+        }
+
+        return missingCount;
+    }
+
+    private boolean isBorderAccessibilitySatisfied() {
+        for (MapDirection direction : DIRECTIONS) {
+            if (countMissingAccessibleNodes(direction.ordinal()) > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Flood-fills all accessible fields reachable from {@code startIndex} with an explicit
+     * stack and marks them in {@code visitedNodes}.
+     *
+     * @return the number of visited accessible fields
+     */
+    private int floodFill(int startIndex, boolean[] visitedNodes) {
+        int[] stack = new int[terrains.length];
+        int stackSize = 0;
+        int visitedCount = isAccessible(startIndex) ? 1 : 0;
+
+        stack[stackSize++] = startIndex;
+        visitedNodes[startIndex] = true;
+
+        while (stackSize > 0) {
+            int index = stack[--stackSize];
+
+            for (MapDirection direction : DIRECTIONS) {
+                int neighborIndex = map.getNeighborIndex(index, direction);
+
+                if (isAccessible(neighborIndex) && !visitedNodes[neighborIndex]) {
+                    visitedNodes[neighborIndex] = true;
+                    stack[stackSize++] = neighborIndex;
+                    ++visitedCount;
+                }
+            }
+        }
+
+        return visitedCount;
+    }
+
+    private int countUnreachableNodes() {
+        if (!isReachabilityKnown) {
+            int accessibleCount = terrainCounts[TerrainType.GRASS.ordinal()]
+                    + terrainCounts[TerrainType.MOUNTAIN.ordinal()];
+
+            reachableNodes = new boolean[terrains.length];
+            int visitedCount = fortIndex == NO_INDEX ? 0 : floodFill(fortIndex, reachableNodes);
+
+            unreachableCount = Math.max(0, accessibleCount - visitedCount);
+            isReachabilityKnown = true;
+        }
+
+        return unreachableCount;
+    }
+
+    private boolean isTerrainReachabilitySatisfied() {
+        return countUnreachableNodes() == 0;
+    }
+
+    /**
+     * Counts how far the half map is from satisfying the border accessibility and terrain
+     * reachability rules, i.e. the accessible fields missing on each border plus the
+     * accessible fields that cannot be reached from the fort.
+     *
+     * @return the number of violations, which is zero if and only if both rules are satisfied
+     */
+    public int countViolations() {
+        return countMissingAccessibleBorderNodes() + countUnreachableNodes();
+    }
+
+    private boolean isOnBorderMissingAccess(int index) {
+        for (MapDirection direction : DIRECTIONS) {
+            int border = direction.ordinal();
+
+            if (borderMembership[border][index] && countMissingAccessibleNodes(border) > 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isNextToUnreachableNode(int index) {
+        for (MapDirection direction : DIRECTIONS) {
+            int neighborIndex = map.getNeighborIndex(index, direction);
+
+            if (isAccessible(neighborIndex) && !reachableNodes[neighborIndex]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns whether the field at {@code position} takes part in a violation of the border
+     * accessibility or terrain reachability rule, i.e. lies on a border with too few
+     * accessible fields or next to an accessible field that cannot be reached.
+     *
+     * @param position the position of the field
+     * @return whether making the field accessible could reduce the violations
+     */
+    public boolean isPartOfViolation(Position position) {
+        int index = indexOfInside(position);
+
+        return isOnBorderMissingAccess(index)
+                || (countUnreachableNodes() > 0 && isNextToUnreachableNode(index));
+    }
+
+    /**
+     * Returns whether the half map with all terrain changes so far satisfies all rules,
+     * stopping at the first violated rule.
+     *
+     * @return whether the changed half map is valid
+     */
+    public boolean isValid() {
+        return areTerrainIndependentRulesSatisfied
+                && isFortPlacementSatisfied()
+                && isTerrainDistributionSatisfied()
+                && isBorderAccessibilitySatisfied()
+                && isTerrainReachabilitySatisfied();
+    }
+}
@@ -20,6 +20,18 @@ public class Notification<T> {
         return !entries.isEmpty();
     }
 
+    /**
+     * Returns all distinct callees that added an entry to this notification.
+     *
+     * @return the distinct callees of all entries
+     */
+    public List<T> getCallees() {
+        return entries.stream()
+                .map(NotificationItem::callee)
+                .distinct()
+                .toList();
+    }
+
     @Override
     public String toString() {
         return entries.stream()
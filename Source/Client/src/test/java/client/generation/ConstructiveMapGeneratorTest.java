@@ -0,0 +1,33 @@
+package client.generation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import client.map.GameMap;
+import client.validation.GameMapValidationRule;
+import client.validation.HalfMapValidator;
+import client.validation.Notification;
+
+class ConstructiveMapGeneratorTest {
+
+    private static final int GENERATED_MAP_COUNT = 1000;
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void HalfMapValidator_generateMap_shouldAlwaysOutputValidMap(long seed) {
+        ConstructiveMapGenerator mapGenerator = new ConstructiveMapGenerator(seed);
+        HalfMapValidator validator = new HalfMapValidator();
+
+        for (int i = 0; i < GENERATED_MAP_COUNT; ++i) {
+            GameMap map = mapGenerator.generateMap();
+            Notification<GameMapValidationRule> validationErrors = validator.validate(map);
+
+            assertFalse(validationErrors.hasEntries(),
+                        "Constructed map is invalid:\n" + validationErrors + "\n" + map);
+        }
+    }
+}
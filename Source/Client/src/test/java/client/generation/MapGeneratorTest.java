@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import client.map.GameMap;
+import client.validation.HalfMapBitboard;
 import client.validation.HalfMapValidator;
 
 class MapGeneratorTest {
@@ -18,6 +19,8 @@ class MapGeneratorTest {
 
     private static final long EXPECTED_MAX_RUN_TIME_SECS = 5L;
 
+    private static final int CANDIDATE_COUNT = 1000;
+
     @Test
     @Timeout(EXPECTED_MAX_RUN_TIME_SECS)
     void HalfMapValidator_generateUntilValid_completesWithinExpectedRuntime() {
@@ -29,4 +32,18 @@ class MapGeneratorTest {
         // Dummy assertion to have at least one assertion in the test case
         assertEquals(HALF_MAP_SIZE, map.getSize(), "Game Map should have the expected size");
     }
-}
\ No newline at end of file
+
+    @Test
+    void SameSeed_generateCandidate_shouldEncodeTheSameHalfMapsAsGenerateMap() {
+        MapGenerator mapGenerator = new MapGenerator(STANDARD_START_SEED);
+        MapGenerator candidateGenerator = new MapGenerator(STANDARD_START_SEED);
+
+        for (int i = 0; i < CANDIDATE_COUNT; ++i) {
+            HalfMapBitboard expectedBoard = HalfMapBitboard.fromMap(mapGenerator.generateMap())
+                    .orElseThrow();
+
+            assertEquals(expectedBoard, candidateGenerator.generateCandidate(),
+                         "Candidate should encode the same half map as the generated one");
+        }
+    }
+}
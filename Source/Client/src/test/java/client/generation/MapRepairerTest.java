@@ -0,0 +1,48 @@
+package client.generation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+
+import org.junit.jupiter.api.Test;
+
+import client.generation.MapRepairer.MapRepair;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.Position;
+import client.map.TerrainType;
+import client.validation.GameMapBorderAccessibilityValidator;
+import client.validation.GameMapTerrainReachabilityValidator;
+
+class MapRepairerTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final int WATER_COUNT = 3;
+
+    private static final long SEED = 42L;
+
+    @Test
+    void WaterOnWestBorder_repair_shouldMoveWaterOffTheBorder() {
+        Position fortPosition = new Position(HALF_MAP_X_SIZE - 1, HALF_MAP_Y_SIZE / 2);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, mapNodes -> {
+            for (int y = 0; y < WATER_COUNT; ++y) {
+                Position position = new Position(0, y);
+                mapNodes.put(position, new GameMapNode(position, TerrainType.WATER));
+            }
+
+            mapNodes.get(fortPosition).placePlayerFort();
+        });
+
+        assertFalse(new GameMapBorderAccessibilityValidator().isSatisfiedBy(map));
+
+        MapRepair repair = new MapRepairer(SEED).repair(map).orElseThrow();
+        GameMap repairedMap = repair.map();
+
+        assertTrue(new GameMapBorderAccessibilityValidator().isSatisfiedBy(repairedMap));
+        assertTrue(new GameMapTerrainReachabilityValidator().isSatisfiedBy(repairedMap));
+        assertEquals(WATER_COUNT, repairedMap.getMapNodes(mapNode -> !mapNode.isAccessible())
+                .size(), "Swapping terrain should keep the amount of water");
+        assertEquals(fortPosition, repairedMap.getPlayerFortPosition().orElseThrow());
+    }
+}
@@ -0,0 +1,54 @@
+package client.generation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import client.validation.HalfMapValidator;
+
+class ParallelMapGeneratorTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final int HALF_MAP_SIZE = HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE;
+
+    private static final long STANDARD_START_SEED = 0xDEAD_FACADEL;
+
+    private static final long EXPECTED_MAX_RUN_TIME_SECS = 5L;
+
+    @Test
+    @Timeout(EXPECTED_MAX_RUN_TIME_SECS)
+    void HalfMapValidator_generateUntilValid_shouldOutputValidMap() {
+        ParallelMapGenerator mapGenerator = new ParallelMapGenerator(4, STANDARD_START_SEED);
+        HalfMapValidator validator = new HalfMapValidator();
+
+        MapGenerationReport report = mapGenerator.generateUntilValid(validator);
+
+        assertEquals(HALF_MAP_SIZE, report.map().getSize(),
+                     "Game Map should have the expected size");
+        assertFalse(validator.validate(report.map()).hasEntries(), "Game Map should be valid");
+        assertEquals(4, report.triesPerWorker().size(), "Tries should be reported per worker");
+        assertTrue(report.getTotalTries() > 0, "At least one try should have been made");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 8})
+    void SameSeed_generateUntilValid_shouldOutputSameMap(int workerCount) {
+        HalfMapValidator validator = new HalfMapValidator();
+
+        MapGenerationReport firstReport = new ParallelMapGenerator(workerCount,
+                                                                   STANDARD_START_SEED)
+                .generateUntilValid(validator);
+        MapGenerationReport secondReport = new ParallelMapGenerator(workerCount,
+                                                                    STANDARD_START_SEED)
+                .generateUntilValid(validator);
+
+        assertEquals(firstReport.winningWorker(), secondReport.winningWorker(),
+                     "The same worker should win in seeded runs");
+        assertEquals(firstReport.map().toString(), secondReport.map().toString(),
+                     "Seeded runs should generate the same map");
+    }
+}
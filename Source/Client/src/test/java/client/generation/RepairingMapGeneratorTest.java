@@ -0,0 +1,45 @@
+package client.generation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import client.validation.HalfMapValidator;
+
+class RepairingMapGeneratorTest {
+
+    private static final int GENERATED_MAP_COUNT = 200;
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void HalfMapValidator_generateUntilValid_shouldNeedFewerTriesThanRetrying(long seed) {
+        HalfMapValidator validator = new HalfMapValidator();
+        RepairingMapGenerator repairingMapGenerator = new RepairingMapGenerator(seed);
+        MapGenerator retryingMapGenerator = new MapGenerator(seed);
+
+        int repairingTries = 0;
+        int retryingTries = 0;
+
+        for (int i = 0; i < GENERATED_MAP_COUNT; ++i) {
+            MapGenerationReport report = repairingMapGenerator.generateUntilValid(validator);
+
+            assertFalse(validator.validate(report.map()).hasEntries(),
+                        "Repaired map should be valid");
+
+            repairingTries += report.getTotalTries();
+        }
+
+        for (int i = 0; i < GENERATED_MAP_COUNT; ++i) {
+            do {
+                ++retryingTries;
+            } while (validator.validate(retryingMapGenerator.generateMap()).hasEntries());
+        }
+
+        assertTrue(repairingTries < retryingTries,
+                   "Repairing should need fewer tries than retrying, but needed "
+                           + repairingTries + " instead of " + retryingTries);
+    }
+}
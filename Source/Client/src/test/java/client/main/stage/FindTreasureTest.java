@@ -0,0 +1,90 @@
+package client.main.stage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import client.main.GameClientState;
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.map.TerrainType;
+import client.map.TreasureState;
+import client.player.Player;
+import client.player.PlayerDetails;
+import client.player.PlayerGameState;
+import client.search.DStarLitePathFinder;
+
+class FindTreasureTest {
+
+    private static final int FULL_MAP_X_SIZE = 20;
+    private static final int FULL_MAP_Y_SIZE = 5;
+    private static final int TURN_COUNT = 5;
+
+    private static final String PLAYER_ID = "dummy01";
+    private static final String ENEMY_ID = "dummy02";
+
+    private static Player makeDummyPlayer(String playerId, Position position) {
+        PlayerDetails details = new PlayerDetails("Dummy", "Player", playerId);
+
+        return new Player(playerId, details, PlayerGameState.MUST_ACT, position, false);
+    }
+
+    private static GameMap generateMapWithFort() {
+        return generateEmptyGameMap(FULL_MAP_X_SIZE, FULL_MAP_Y_SIZE, MapDirection.WEST);
+    }
+
+    /**
+     * Generates the map as the server sends it, where every map node in sight of the player
+     * turns out to have neither a fort nor a treasure.
+     */
+    private static GameMap generateServerMap() {
+        GameMap map = generateMapWithFort();
+
+        return generateEmptyGameMap(FULL_MAP_X_SIZE, FULL_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.replaceAll((position, mapNode) -> map.getNodeAt(position)
+                    .filter(GameMapNode::hasPlayerFort)
+                    .orElseGet(() -> new GameMapNode(position,
+                                                     TerrainType.GRASS,
+                                                     FortState.NO_FORT_PRESENT,
+                                                     TreasureState.NO_TREASURE_PRESENT)));
+        });
+    }
+
+    private static GameClientState makeState(int turn, GameMap map, Position playerPosition) {
+        Player enemy = makeDummyPlayer(ENEMY_ID, Position.originPosition);
+
+        return new GameClientState("test0", String.valueOf(turn), map,
+                                   makeDummyPlayer(PLAYER_ID, playerPosition), enemy);
+    }
+
+    @Test
+    void RepeatedTurns_retrieveNextDirections_shouldRepairInsteadOfReset() {
+        // The goal is the dead end at the upper left corner, which is several turns away
+        GameMap serverMap = generateServerMap();
+        GameClientState state = makeState(0, generateMapWithFort(), new Position(9, 4));
+        FindTreasure stage = new FindTreasure();
+
+        for (int turn = 1; turn <= TURN_COUNT; ++turn) {
+            List<MapDirection> directions = List.copyOf(stage.retrieveNextDirections(state));
+            Position nextPosition = state.getPlayerPosition()
+                    .stepInDirection(directions.getFirst());
+
+            state.update(makeState(turn, serverMap, nextPosition));
+
+            assertFalse(state.getMap().getNodeAt(nextPosition).orElseThrow().isUnvisited(),
+                        "Each turn should visit the map node walked onto");
+        }
+
+        DStarLitePathFinder pathFinder = stage.getCurrentPathFinder().orElseThrow();
+
+        assertEquals(1, pathFinder.getResetCount(),
+                     "Only the first search should build the search tree from scratch");
+    }
+}
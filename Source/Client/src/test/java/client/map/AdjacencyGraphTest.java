@@ -0,0 +1,90 @@
+package client.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class AdjacencyGraphTest {
+
+    private static final int SQUARE_MAP_SIZE = 3;
+
+    @Test
+    void MountainCenterMap_getTravelCost_shouldChargeMountainBothWays() {
+        Position center = new Position(1, 1);
+        GameMap map = generateEmptyGameMap(SQUARE_MAP_SIZE, SQUARE_MAP_SIZE, mapNodes -> {
+            mapNodes.put(center, new GameMapNode(center, TerrainType.MOUNTAIN));
+        });
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+        int centerIndex = map.indexOf(center);
+
+        // A 3x3 grid has 12 adjacent pairs, which are connected in both directions
+        assertEquals(24, graph.getEdgeCount());
+        assertEquals(4, graph.getDegree(centerIndex));
+        assertEquals(2, graph.getDegree(map.indexOf(Position.originPosition)));
+
+        for (int edge = graph.getFirstEdge(centerIndex); edge < graph.getLastEdge(centerIndex);
+             ++edge) {
+            int neighborIndex = graph.getNeighbor(edge);
+
+            // Leaving the mountain costs 2 and entering grass 1, and vice versa
+            assertEquals(3, graph.getTravelCost(edge));
+            assertEquals(3, IntStream
+                    .range(graph.getFirstEdge(neighborIndex), graph.getLastEdge(neighborIndex))
+                    .filter(neighborEdge -> graph.getNeighbor(neighborEdge) == centerIndex)
+                    .map(graph::getTravelCost)
+                    .sum());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_getNeighbor_shouldMatchReachableNeighbors(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+
+        for (GameMapNode mapNode : map.getMapNodes()) {
+            int index = map.indexOf(mapNode.getPosition());
+            Set<GameMapNode> reachableNeighbors = map.getReachableNeighbors(mapNode.getPosition());
+
+            Set<GameMapNode> graphNeighbors = IntStream
+                    .range(graph.getFirstEdge(index), graph.getLastEdge(index))
+                    .mapToObj(edge -> map.getNodeAtIndex(graph.getNeighbor(edge)))
+                    .collect(Collectors.toSet());
+
+            assertEquals(reachableNeighbors, graphNeighbors);
+            assertEquals(reachableNeighbors.size(), graph.getDegree(index));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_getTravelCost_shouldMatchTerrainTravelCost(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        AdjacencyGraph graph = map.getAdjacencyGraph();
+
+        for (int index = 0; index < graph.getIndexBound(); ++index) {
+            for (int edge = graph.getFirstEdge(index); edge < graph.getLastEdge(index); ++edge) {
+                int neighborIndex = graph.getNeighbor(edge);
+                Position position = map.getNodeAtIndex(index).getPosition();
+                int expectedCost = map.getNodeAtIndex(index).isAccessible()
+                        ? TerrainType.computeTravelCost(map.getTerrainTypeAt(index),
+                                                        map.getTerrainTypeAt(neighborIndex))
+                        : AdjacencyGraph.NO_TRAVEL;
+
+                assertEquals(expectedCost, graph.getTravelCost(edge));
+                assertEquals(map.getNodeAtIndex(neighborIndex).getPosition(),
+                             position.stepInDirection(graph.getDirection(edge)));
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package client.map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BitboardTest {
+
+    private static final int FULL_MAP_SIZE = 100;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 99})
+    void EmptyBitboard_set_shouldOnlySetGivenBit(int index) {
+        Bitboard board = new Bitboard(FULL_MAP_SIZE);
+
+        board.set(index);
+
+        assertTrue(board.get(index), "Set bit should be marked as set");
+        assertEquals(1, board.cardinality(), "Bitboard should contain exactly one set bit");
+        assertEquals(index, board.nextSetBit(0), "Set bit should be found as first set bit");
+    }
+
+    @Test
+    void MultiWordBitboards_countIntersection_shouldCountCommonBits() {
+        Bitboard evenBoard = new Bitboard(FULL_MAP_SIZE);
+        Bitboard tripleBoard = new Bitboard(FULL_MAP_SIZE);
+
+        for (int index = 0; index < FULL_MAP_SIZE; ++index) {
+            evenBoard.set(index, index % 2 == 0);
+            tripleBoard.set(index, index % 3 == 0);
+        }
+
+        // Multiples of six in [0; 100)
+        assertEquals(17,
+                     evenBoard.countIntersection(tripleBoard),
+                     "Intersection should contain all multiples of six");
+        assertTrue(evenBoard.intersects(tripleBoard), "Bitboards should intersect");
+
+        evenBoard.andNot(tripleBoard);
+
+        assertFalse(evenBoard.intersects(tripleBoard),
+                    "Bitboards should not intersect after removing the common bits");
+    }
+
+    @Test
+    void SparseBitboard_stream_shouldReturnAllSetBitsInOrder() {
+        Bitboard board = new Bitboard(FULL_MAP_SIZE);
+        int[] indices = {3, 63, 64, 98};
+
+        for (int index : indices) {
+            board.set(index);
+        }
+
+        assertArrayEquals(indices, board.stream().toArray(), "All set bits should be streamed");
+    }
+}
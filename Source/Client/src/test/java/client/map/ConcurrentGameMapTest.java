@@ -0,0 +1,159 @@
+package client.map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ConcurrentGameMapTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final int HALF_MAP_SIZE = HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE;
+
+    private static final int READER_COUNT = 4;
+    private static final int SNAPSHOT_COUNT = 100;
+    private static final long EXPECTED_MAX_RUN_TIME_SECS = 10L;
+
+    private static GameMap generateVisitedMap() {
+        return generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.replaceAll((position, mapNode) -> new GameMapNode(
+                    position,
+                    TerrainType.GRASS,
+                    FortState.NO_FORT_PRESENT,
+                    TreasureState.NO_TREASURE_PRESENT));
+        });
+    }
+
+    /**
+     * On an empty grass map, every update from a new viewpoint visits exactly one map node, so
+     * a consistent snapshot has as many unvisited map nodes left as its version tells.
+     */
+    private static void assertConsistent(GameMap snapshot) {
+        int expectedUnvisitedCount = HALF_MAP_SIZE - (int) snapshot.getVersion();
+
+        assertEquals(expectedUnvisitedCount,
+                     snapshot.getMapNodes(GameMapNode::isUnvisited).size(),
+                     "Snapshot's map nodes should match its version");
+        assertEquals(expectedUnvisitedCount,
+                     snapshot.getUnvisitedLootableBoard().cardinality(),
+                     "Snapshot's bitboards should match its version");
+    }
+
+    @Test
+    void UnvisitedMap_update_shouldPublishNewSnapshot() {
+        ConcurrentGameMap concurrentMap = new ConcurrentGameMap(
+                generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE));
+        GameMap oldSnapshot = concurrentMap.getSnapshot();
+
+        concurrentMap.update(generateVisitedMap(), Position.originPosition);
+
+        GameMap newSnapshot = concurrentMap.getSnapshot();
+
+        assertTrue(newSnapshot.isSnapshot());
+        assertEquals(oldSnapshot.getVersion() + 1, newSnapshot.getVersion());
+        assertEquals(newSnapshot.getVersion(), concurrentMap.getVersion());
+        assertConsistent(oldSnapshot);
+        assertConsistent(newSnapshot);
+    }
+
+    @Test
+    void Snapshot_new_shouldThrow() {
+        GameMap snapshot = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE).snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentGameMap(snapshot));
+    }
+
+    @Test
+    @Timeout(EXPECTED_MAX_RUN_TIME_SECS)
+    void ConcurrentReaders_getSnapshot_shouldOnlySeeConsistentSnapshots()
+            throws ExecutionException, InterruptedException {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        ConcurrentGameMap concurrentMap = new ConcurrentGameMap(map);
+        GameMap visitedMap = generateVisitedMap();
+        List<Position> viewpoints = map.getMapNodes().stream()
+                .map(GameMapNode::getPosition)
+                .toList();
+
+        ForkJoinPool pool = new ForkJoinPool(READER_COUNT);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        List<Future<Long>> readers = new ArrayList<>();
+
+        try {
+            for (int reader = 0; reader < READER_COUNT; ++reader) {
+                readers.add(pool.submit(() -> {
+                    long lastVersion = 0;
+
+                    while (isWriting.get()) {
+                        GameMap snapshot = concurrentMap.getSnapshot();
+
+                        assertTrue(snapshot.getVersion() >= lastVersion,
+                                   "Published versions should never go back");
+                        assertConsistent(snapshot);
+                        lastVersion = snapshot.getVersion();
+                    }
+
+                    return lastVersion;
+                }));
+            }
+
+            for (Position viewpoint : viewpoints) {
+                concurrentMap.update(visitedMap, viewpoint);
+            }
+
+            isWriting.set(false);
+
+            for (Future<Long> reader : readers) {
+                assertTrue(reader.get() <= HALF_MAP_SIZE);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(HALF_MAP_SIZE, concurrentMap.getVersion(),
+                     "Every update should have visited one more map node");
+        assertConsistent(concurrentMap.getSnapshot());
+    }
+
+    @Test
+    @Timeout(EXPECTED_MAX_RUN_TIME_SECS)
+    void ConcurrentReaders_getHalfMapViews_shouldOnlySeeCompleteViews()
+            throws ExecutionException, InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(READER_COUNT);
+
+        try {
+            // Each fresh snapshot has no views yet, which all readers race to create
+            for (int i = 0; i < SNAPSHOT_COUNT; ++i) {
+                GameMap snapshot = generateEmptyGameMap(2 * HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE,
+                                                        MapDirection.WEST).snapshot();
+                List<Future<?>> readers = new ArrayList<>();
+
+                for (int reader = 0; reader < READER_COUNT; ++reader) {
+                    readers.add(pool.submit(() -> {
+                        HalfMapView playerHalfMapView = snapshot.getPlayerHalfMapView();
+                        HalfMapView enemyHalfMapView = snapshot.getEnemyHalfMapView();
+
+                        assertTrue(playerHalfMapView.isViewOn(snapshot));
+                        assertEquals(HALF_MAP_SIZE, playerHalfMapView.getSize());
+                        assertEquals(HALF_MAP_SIZE, enemyHalfMapView.getSize());
+                    }));
+                }
+
+                for (Future<?> reader : readers) {
+                    reader.get();
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
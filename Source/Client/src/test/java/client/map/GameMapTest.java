@@ -1,17 +1,20 @@
 package client.map;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
@@ -63,6 +66,326 @@ class GameMapTest {
         assertSameVisiblePositions(expectedPositions, visiblePositions);
     }
 
+    @ParameterizedTest
+    @CsvSource({"0,0", "9,0", "0,4", "9,4", "4,2"})
+    void HalfMap_indexOf_shouldPointToNodeAtPosition(int posX, int posY) {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        Position position = new Position(posX, posY);
+        int index = map.indexOf(position);
+
+        assertEquals(position,
+                     map.getNodeAtIndex(index).getPosition(),
+                     "Node at the index should be placed on the looked up position");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1,0", "0,-1", "10,0", "0,5"})
+    void HalfMap_indexOf_shouldNotFindPositionsOutside(int posX, int posY) {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        assertEquals(-1,
+                     map.indexOf(new Position(posX, posY)),
+                     "Positions outside of the map should not have an index");
+    }
+
+    @Test
+    void HalfMap_getNeighborIndex_shouldMatchSteppedPositions() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        for (GameMapNode mapNode : map.getMapNodes()) {
+            Position position = mapNode.getPosition();
+            int index = map.indexOf(position);
+
+            for (MapDirection direction : MapDirection.values()) {
+                int expectedIndex = map.indexOf(position.stepInDirection(direction));
+
+                assertEquals(expectedIndex,
+                             map.getNeighborIndex(index, direction),
+                             "Neighbor index should match the index of the stepped position");
+            }
+        }
+    }
+
+    @Test
+    void HalfMap_update_shouldGrowToFullMap() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        GameMap fullMap = generateEmptyGameMap(HORIZONTAL_MAP_X_SIZE, HORIZONTAL_MAP_Y_SIZE);
+
+        map.update(fullMap, Position.originPosition);
+
+        assertEquals(new PositionArea(0, 0, HORIZONTAL_MAP_X_SIZE, HORIZONTAL_MAP_Y_SIZE),
+                     map.getArea(),
+                     "Updated map should span the area of the full map");
+        assertTrue(fullMap.getMapNodes().stream()
+                           .map(GameMapNode::getPosition)
+                           .allMatch(position -> map.getNodeAt(position).isPresent()),
+                   "Updated map should contain all nodes of the full map");
+    }
+
+    @Test
+    void TreasureInSight_update_shouldMarkTreasureAsFound() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Position treasurePosition = new Position(1, 1);
+
+        GameMap newMap = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.replaceAll((position, mapNode) -> new GameMapNode(
+                    position,
+                    TerrainType.GRASS,
+                    FortState.NO_FORT_PRESENT,
+                    position.equals(treasurePosition) ?
+                            TreasureState.PLAYER_TREASURE_PRESENT :
+                            TreasureState.NO_TREASURE_PRESENT));
+        });
+
+        assertFalse(map.anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT),
+                    "Treasure should not be known before the update");
+
+        map.update(newMap, treasurePosition);
+
+        assertTrue(map.anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT),
+                   "Treasure should be known after seeing it");
+        assertEquals(HALF_MAP_SIZE - 1,
+                     map.getMapNodes(GameMapNode::isUnvisited).size(),
+                     "Only the treasure's field should be marked as visited");
+    }
+
+    @Test
+    void MountainInSight_update_shouldDecrementUnvisitedInSight() {
+        Position mountainPosition = new Position(1, 1);
+        Position grassPosition = new Position(0, 0);
+        GameMap map = generateEmptyGameMap(SMALL_MAP_X_SIZE, SMALL_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.get(mountainPosition).setTerrainType(TerrainType.MOUNTAIN);
+        });
+        GameMap newMap = generateEmptyGameMap(SMALL_MAP_X_SIZE, SMALL_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.replaceAll((position, mapNode) -> new GameMapNode(
+                    position,
+                    position.equals(mountainPosition) ? TerrainType.MOUNTAIN : TerrainType.GRASS,
+                    FortState.NO_FORT_PRESENT,
+                    TreasureState.NO_TREASURE_PRESENT));
+        });
+
+        int mountainIndex = map.indexOf(mountainPosition);
+        int grassIndex = map.indexOf(grassPosition);
+
+        assertEquals(SMALL_MAP_X_SIZE * SMALL_MAP_Y_SIZE,
+                     map.countUnvisitedInSight(mountainIndex),
+                     "Mountain should see the whole unvisited small map");
+        assertEquals(1,
+                     map.countUnvisitedInSight(grassIndex),
+                     "Grass should only see itself");
+
+        map.update(newMap, mountainPosition);
+
+        assertEquals(0,
+                     map.countUnvisitedInSight(mountainIndex),
+                     "Mountain should not see any unvisited fields after looking around");
+        assertEquals(0,
+                     map.countUnvisitedInSight(grassIndex),
+                     "Grass in sight of the mountain should be visited");
+    }
+
+    @Test
+    void TreasureInSight_update_shouldLogVisitedIndex() {
+        Position treasurePosition = new Position(1, 1);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        int visitCount = map.getVisitCount();
+
+        map.update(generateTreasureMap(treasurePosition), treasurePosition);
+
+        List<Integer> visitedIndices = new ArrayList<>();
+        map.forEachIndexVisitedSince(visitCount, visitedIndices::add);
+
+        assertEquals(List.of(map.indexOf(treasurePosition)), visitedIndices,
+                     "Only the treasure's field should be logged as visited");
+
+        List<Integer> viewerIndices = new ArrayList<>();
+        map.forEachViewerIndex(map.indexOf(treasurePosition), viewerIndices::add);
+
+        assertEquals(List.of(map.indexOf(treasurePosition)), viewerIndices,
+                     "Only the grass field itself should see the treasure's field");
+    }
+
+    private static GameMap generateTreasureMap(Position treasurePosition) {
+        return generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.replaceAll((position, mapNode) -> new GameMapNode(
+                    position,
+                    TerrainType.GRASS,
+                    FortState.NO_FORT_PRESENT,
+                    position.equals(treasurePosition) ?
+                            TreasureState.PLAYER_TREASURE_PRESENT :
+                            TreasureState.NO_TREASURE_PRESENT));
+        });
+    }
+
+    @Test
+    void TreasureInSight_update_shouldIndexTreasurePosition() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Position treasurePosition = new Position(1, 1);
+
+        assertTrue(map.getTreasurePosition().isEmpty(),
+                   "Treasure position should not be known before the update");
+
+        map.update(generateTreasureMap(treasurePosition), treasurePosition);
+
+        assertEquals(treasurePosition, map.getTreasurePosition().orElseThrow(),
+                     "Treasure position should be known after seeing it");
+    }
+
+    @Test
+    void TreasureInSight_update_shouldKeepUnvisitedLootableBoardCurrent() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Position treasurePosition = new Position(1, 1);
+
+        map.update(generateTreasureMap(treasurePosition), treasurePosition);
+
+        int[] expectedIndices = map.getMapNodes(GameMapNode::isUnvisited).stream()
+                .filter(GameMapNode::isLootable)
+                .mapToInt(mapNode -> map.indexOf(mapNode.getPosition()))
+                .sorted()
+                .toArray();
+
+        assertArrayEquals(expectedIndices, map.getUnvisitedLootableBoard().stream().toArray(),
+                          "Unvisited lootable board should only lack the visited field");
+    }
+
+    @Test
+    void EnemyFortMap_getEnemyFortPosition_shouldReturnFirstEnemyFort() {
+        Position fortPosition = new Position(3, 2);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.get(fortPosition).placeEnemyFort();
+            mapNodes.get(new Position(4, 2)).placeEnemyFort();
+        });
+
+        assertEquals(fortPosition, map.getEnemyFortPosition().orElseThrow());
+        assertTrue(map.getPlayerFortPosition().isEmpty());
+        assertTrue(map.anyMapNodeMatch(FortState.ENEMY_FORT_PRESENT));
+        assertFalse(map.anyMapNodeMatch(FortState.PLAYER_FORT_PRESENT));
+    }
+
+    @Test
+    void TreasureInSight_update_shouldNotifyDiscoveries() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Position treasurePosition = new Position(1, 1);
+        GameMap newMap = generateTreasureMap(treasurePosition);
+        List<DiscoveryEvent> events = new ArrayList<>();
+
+        map.subscribe(events::add, DiscoveryEvent.allEvents());
+        map.update(newMap, treasurePosition);
+
+        assertEquals(List.of(DiscoveryEvent.NODE_VISITED, DiscoveryEvent.TREASURE_SIGHTED),
+                     events,
+                     "Seeing the treasure should visit its field and sight the treasure");
+
+        events.clear();
+        map.update(newMap, treasurePosition);
+
+        assertEquals(List.of(), events, "Seeing the treasure again should not discover anything");
+    }
+
+    @Test
+    void Snapshot_update_shouldNotChangeSnapshot() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Position treasurePosition = new Position(1, 1);
+        GameMap snapshot = map.snapshot();
+
+        map.update(generateTreasureMap(treasurePosition), treasurePosition);
+
+        assertTrue(map.anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT),
+                   "Treasure should be known to the map after seeing it");
+        assertTrue(map.getNodeAt(treasurePosition).orElseThrow().hasTreasure(),
+                   "Treasure's map node should be updated in the map");
+        assertFalse(snapshot.anyMapNodeMatch(TreasureState.PLAYER_TREASURE_PRESENT),
+                    "Treasure should not be known to the snapshot taken before");
+        assertFalse(snapshot.getNodeAt(treasurePosition).orElseThrow().hasTreasure(),
+                    "Treasure's map node should not be updated in the snapshot");
+        assertEquals(HALF_MAP_SIZE,
+                     snapshot.getMapNodes(GameMapNode::isUnvisited).size(),
+                     "Snapshot should still consider every field unvisited");
+        assertEquals(1,
+                     snapshot.countUnvisitedInSight(snapshot.indexOf(treasurePosition)),
+                     "Snapshot should still count the treasure's field as unvisited in sight");
+    }
+
+    @Test
+    void Snapshot_update_shouldOnlyCopyChangedMapNodes() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Position treasurePosition = new Position(1, 1);
+        Position otherPosition = new Position(2, 2);
+        GameMap snapshot = map.snapshot();
+
+        map.update(generateTreasureMap(treasurePosition), treasurePosition);
+
+        assertSame(snapshot.getNodeAt(otherPosition).orElseThrow(),
+                   map.getNodeAt(otherPosition).orElseThrow(),
+                   "Unchanged map nodes should be shared with the snapshot");
+        assertNotSame(snapshot.getNodeAt(treasurePosition).orElseThrow(),
+                      map.getNodeAt(treasurePosition).orElseThrow(),
+                      "Changed map nodes should be copied before being changed");
+    }
+
+    @Test
+    void UnchangedMap_snapshot_shouldReturnSameSnapshot() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Position treasurePosition = new Position(1, 1);
+        GameMap snapshot = map.snapshot();
+
+        assertSame(snapshot, map.snapshot(), "Unchanged map should reuse its snapshot");
+        assertSame(snapshot, snapshot.snapshot(), "Snapshot should be its own snapshot");
+
+        map.update(generateTreasureMap(treasurePosition), treasurePosition);
+
+        assertNotSame(snapshot, map.snapshot(), "Changed map should take a new snapshot");
+        assertEquals(map.getVersion(), map.snapshot().getVersion(),
+                     "New snapshot should have the map's version");
+        assertTrue(snapshot.getVersion() < map.getVersion(),
+                   "Old snapshot should keep its older version");
+    }
+
+    @Test
+    void Snapshot_update_shouldThrow() {
+        GameMap snapshot = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE).snapshot();
+        GameMap newMap = generateTreasureMap(new Position(1, 1));
+
+        assertTrue(snapshot.isSnapshot());
+        assertThrows(IllegalStateException.class,
+                     () -> snapshot.update(newMap, Position.originPosition));
+    }
+
+    @Test
+    void Snapshot_updateWithNewMapNodes_shouldNotGrowSnapshot() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        GameMap snapshot = map.snapshot();
+        GameMap fullMap = generateEmptyGameMap(HORIZONTAL_MAP_X_SIZE, HORIZONTAL_MAP_Y_SIZE);
+
+        map.update(fullMap, Position.originPosition);
+
+        assertEquals(HORIZONTAL_MAP_X_SIZE * HORIZONTAL_MAP_Y_SIZE, map.getSize(),
+                     "Map should grow to the full map");
+        assertEquals(HALF_MAP_SIZE, snapshot.getSize(),
+                     "Snapshot should keep the half map");
+        assertEquals(new PositionArea(0, 0, HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE),
+                     snapshot.getArea(),
+                     "Snapshot should keep the half map's area");
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapDirection.class)
+    void HalfMap_getBorderNodes_shouldReturnWholeBorder(MapDirection direction) {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        PositionArea area = map.getArea();
+
+        Collection<Position> borderPositions = map.getBorderNodes(direction).stream()
+                .map(GameMapNode::getPosition)
+                .toList();
+
+        assertEquals(map.countBorderNodes(direction),
+                     borderPositions.size(),
+                     "Border node count should match the amount of border nodes");
+        assertTrue(borderPositions.stream().allMatch(area.getBorderPredicate(direction)),
+                   "All border nodes should lie on the border");
+    }
+
     @ParameterizedTest
     @ArgumentsSource(FullMapFortHalfMapArgumentsProvider.class)
     void FullMap_getPlayerHalfMap_shouldReturnCorrectHalfHalfMap(int mapXSize,
@@ -108,6 +431,50 @@ class GameMapTest {
                           "Enemy half map nodes should equal the expected half map nodes");
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(FullMapFortHalfMapArgumentsProvider.class)
+    void FullMap_getPlayerHalfMapView_shouldCoverExpectedArea(int mapXSize, int mapYSize,
+                                                              MapDirection fortPlacement,
+                                                              PositionArea expectedArea) {
+        GameMap map = generateEmptyGameMap(mapXSize, mapYSize, fortPlacement);
+        HalfMapView playerHalfMap = map.getPlayerHalfMapView();
+        Collection<Position> mapNodePositions = playerHalfMap.getMapNodes().stream()
+                .map(GameMapNode::getPosition)
+                .sorted().toList();
+
+        Collection<Position> areaPositions = expectedArea.intoStream().sorted().toList();
+
+        assertEquals(expectedArea, playerHalfMap.getArea(),
+                     "Player half map view should span the expected area");
+        assertArrayEquals(areaPositions.toArray(),
+                          mapNodePositions.toArray(),
+                          "Player half map view should contain the expected half map nodes");
+        assertSame(playerHalfMap, map.getPlayerHalfMapView(),
+                   "Player half map view should only be created once");
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(FullMapFortHalfMapArgumentsProvider.class)
+    void FullMap_getEnemyHalfMapView_shouldCoverExpectedArea(int mapXSize, int mapYSize,
+                                                             MapDirection oppositeFortPlacement,
+                                                             PositionArea expectedArea) {
+        MapDirection fortPlacement = oppositeFortPlacement.getOpposite();
+
+        GameMap map = generateEmptyGameMap(mapXSize, mapYSize, fortPlacement);
+        HalfMapView enemyHalfMap = map.getEnemyHalfMapView();
+        Collection<Position> mapNodePositions = enemyHalfMap.getMapNodes().stream()
+                .map(GameMapNode::getPosition)
+                .sorted().toList();
+
+        Collection<Position> areaPositions = expectedArea.intoStream().sorted().toList();
+
+        assertEquals(expectedArea, enemyHalfMap.getArea(),
+                     "Enemy half map view should span the expected area");
+        assertArrayEquals(areaPositions.toArray(),
+                          mapNodePositions.toArray(),
+                          "Enemy half map view should contain the expected half map nodes");
+    }
+
     private static class FullMapFortHalfMapArgumentsProvider implements ArgumentsProvider {
 
         @Override
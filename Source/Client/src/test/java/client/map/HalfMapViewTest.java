@@ -0,0 +1,65 @@
+package client.map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+
+class HalfMapViewTest {
+
+    private static final int MAP_X_SIZE = 20;
+    private static final int MAP_Y_SIZE = 5;
+
+    private static final Position PLAYER_HALF_POSITION = new Position(1, 1);
+    private static final Position ENEMY_HALF_POSITION = new Position(15, 1);
+
+    @Test
+    void WestFortMap_getNodeAt_shouldOnlyFindPositionsWithinHalf() {
+        GameMap map = generateEmptyGameMap(MAP_X_SIZE, MAP_Y_SIZE, MapDirection.WEST);
+        HalfMapView playerHalfMap = map.getPlayerHalfMapView();
+
+        assertTrue(playerHalfMap.contains(PLAYER_HALF_POSITION));
+        assertFalse(playerHalfMap.contains(ENEMY_HALF_POSITION));
+        assertFalse(playerHalfMap.contains(new Position(-1, 0)));
+        assertSame(map.getNodeAt(PLAYER_HALF_POSITION).orElseThrow(),
+                   playerHalfMap.getNodeAt(PLAYER_HALF_POSITION).orElseThrow(),
+                   "View should read the map nodes of its map instead of copies");
+    }
+
+    @Test
+    void WestFortMap_toBoard_shouldMatchMaterializedHalfMap() {
+        GameMap map = generateEmptyGameMap(MAP_X_SIZE, MAP_Y_SIZE, MapDirection.WEST);
+
+        assertArrayEquals(map.getEnemyHalfMap().toBoard(map).stream().toArray(),
+                          map.getEnemyHalfMapView().toBoard(map).stream().toArray());
+        assertEquals(MAP_X_SIZE * MAP_Y_SIZE / 2, map.getEnemyHalfMapView().getSize());
+    }
+
+    @Test
+    void UpdatedMap_getRandomUnvisitedDeadEndPosition_shouldSkipVisitedMapNodes() {
+        GameMap map = generateEmptyGameMap(MAP_X_SIZE, MAP_Y_SIZE, MapDirection.WEST);
+        HalfMapView enemyHalfMap = map.getEnemyHalfMapView();
+        GameMap newMap = generateEmptyGameMap(MAP_X_SIZE, MAP_Y_SIZE, mapNodes -> {
+            mapNodes.replaceAll((position, mapNode) -> new GameMapNode(
+                    position,
+                    TerrainType.GRASS,
+                    position.equals(ENEMY_HALF_POSITION) ?
+                            FortState.UNKNOWN :
+                            FortState.NO_FORT_PRESENT));
+        });
+
+        // Look at every map node except the one left unknown
+        for (GameMapNode mapNode : map.getMapNodes()) {
+            if (!mapNode.getPosition().equals(ENEMY_HALF_POSITION)) {
+                map.update(newMap, mapNode.getPosition());
+            }
+        }
+
+        assertEquals(ENEMY_HALF_POSITION,
+                     enemyHalfMap.getRandomUnvisitedDeadEndPosition().orElseThrow(),
+                     "View should see the map's current intelligence");
+        assertTrue(map.getPlayerHalfMapView().getRandomUnvisitedDeadEndPosition().isEmpty(),
+                   "Other half should have nothing left to visit");
+    }
+}
@@ -4,16 +4,25 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.LongStream;
 
+import client.generation.MapGenerator;
 import client.map.GameMap;
 import client.map.GameMapNode;
 import client.map.MapDirection;
 import client.map.Position;
 import client.map.PositionArea;
 import client.map.TerrainType;
+import client.validation.HalfMapValidator;
 
 public class MapGenerationUtils {
 
+    /**
+     * The source of the seeds, which parameterized tests generate their half maps with, e.g.
+     * {@code @MethodSource(SEEDS)}.
+     */
+    public static final String SEEDS = "client.map.util.MapGenerationUtils#provideSeeds";
+
     private static final Consumer<Map<Position, GameMapNode>> dummyConsumer =
             mapNodes -> {};
 
@@ -89,4 +98,29 @@ public class MapGenerationUtils {
             fortMapNode.placePlayerFort();
         });
     }
+
+    public static LongStream provideSeeds() {
+        return LongStream.of(0L, 1L, 42L, 1337L, 0xDEAD_FACADEL);
+    }
+
+    /**
+     * Generates a random half map with the {@link MapGenerator}, which is not necessarily valid.
+     *
+     * @param seed the seed of the map generator
+     * @return the generated half map
+     */
+    public static GameMap generateHalfMap(long seed) {
+        return new MapGenerator(seed).generateMap();
+    }
+
+    /**
+     * Generates a random half map with the {@link MapGenerator}, which satisfies all rules of
+     * the {@link HalfMapValidator}.
+     *
+     * @param seed the seed of the map generator
+     * @return the generated valid half map
+     */
+    public static GameMap generateValidHalfMap(long seed) {
+        return new MapGenerator(seed).generateUntilValid(new HalfMapValidator());
+    }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import static client.map.util.MapGenerationUtils.makeInaccessible;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -52,6 +53,20 @@ class AStarPathFinderTest {
         assertStraightPath(map, path);
     }
 
+    @Test
+    void EmptyGrassMap_findPath_shouldStartWalkAtSource() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        PathFinder pathFinder = new AStarPathFinder(map);
+        Path path = pathFinder.findPath(new Position(0, 0), new Position(2, 0));
+
+        // Each step between grass nodes costs one move to leave and one move to enter
+        List<MapDirection> expectedDirections = List.of(MapDirection.EAST, MapDirection.EAST,
+                                                        MapDirection.EAST, MapDirection.EAST);
+
+        assertEquals(expectedDirections, path.intoMapDirections(map));
+    }
+
     @ParameterizedTest
     @ArgumentsSource(StraightPathArgumentsProvider.class)
     void BlockedGrassMap_findPath_shouldFailFindingPath(Position source, Position destination) {
@@ -0,0 +1,151 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import client.generation.MapGenerator;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.map.TerrainType;
+import client.map.util.MapGenerationUtils;
+
+class ConnectedComponentsTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+
+    private static final int WATER_COLUMN_X = 2;
+
+    private static final int GENERATED_MAP_COUNT = 200;
+
+    private static final int SERPENTINE_X_SIZE = 1000;
+    private static final int SERPENTINE_Y_SIZE = 1000;
+
+    private static boolean isWaterColumn(GameMapNode mapNode) {
+        return mapNode.getPosition().x() == WATER_COLUMN_X;
+    }
+
+    private static boolean isAccessible(GameMap map, int index) {
+        return index != -1 && map.getNodeAtIndex(index).isAccessible();
+    }
+
+    /**
+     * Counts the accessible map nodes reachable from {@code startIndex} with a plain
+     * breadth-first search as reference.
+     */
+    private static int countReachableNodes(GameMap map, int startIndex) {
+        boolean[] visitedNodes = new boolean[map.getIndexBound()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        int reachableCount = isAccessible(map, startIndex) ? 1 : 0;
+
+        queue.add(startIndex);
+        visitedNodes[startIndex] = true;
+
+        while (!queue.isEmpty()) {
+            int index = queue.poll();
+
+            for (MapDirection direction : MapDirection.values()) {
+                int neighborIndex = map.getReachableNeighborIndex(index, direction);
+
+                if (neighborIndex != -1 && !visitedNodes[neighborIndex]) {
+                    visitedNodes[neighborIndex] = true;
+                    queue.add(neighborIndex);
+                    ++reachableCount;
+                }
+            }
+        }
+
+        return reachableCount;
+    }
+
+    @Test
+    void EmptyGrassMap_fromMap_shouldFindSingleComponent() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        ConnectedComponents components = ConnectedComponents.fromMap(map);
+
+        assertEquals(1, components.getComponentCount(), "Grass map should be one component");
+        assertEquals(HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE, components.countReachableFrom(0),
+                     "Every map node should be reachable");
+        assertTrue(components.isReachable(map.getArea().upperLeft(),
+                                          map.getArea().lowerRight()),
+                   "Opposite corners should be reachable from each other");
+    }
+
+    @Test
+    void WaterColumnMap_fromMap_shouldFindTwoComponents() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(
+                HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, MapGenerationUtils.makeInaccessible,
+                ConnectedComponentsTest::isWaterColumn);
+
+        ConnectedComponents components = ConnectedComponents.fromMap(map);
+
+        assertEquals(2, components.getComponentCount(),
+                     "Water column should split the map into two components");
+        assertEquals(WATER_COLUMN_X * HALF_MAP_Y_SIZE, components.countReachableFrom(0),
+                     "Only the two columns left of the water should be reachable");
+        assertEquals((HALF_MAP_X_SIZE - WATER_COLUMN_X - 1) * HALF_MAP_Y_SIZE,
+                     components.countReachableFrom(map.indexOf(map.getArea().lowerRight())),
+                     "Only the seven columns right of the water should be reachable");
+        assertFalse(components.isReachable(map.getArea().upperLeft(),
+                                           map.getArea().lowerRight()),
+                    "Opposite corners should be separated by the water");
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMaps_countReachableFrom_shouldMatchBreadthFirstSearch(long seed) {
+        MapGenerator mapGenerator = new MapGenerator(seed);
+
+        for (int i = 0; i < GENERATED_MAP_COUNT; ++i) {
+            GameMap map = mapGenerator.generateMap();
+            ConnectedComponents components = ConnectedComponents.fromMap(map);
+
+            for (int index = 0; index < map.getIndexBound(); ++index) {
+                assertEquals(countReachableNodes(map, index), components.countReachableFrom(index),
+                             "Reachable map nodes should match from index " + index);
+            }
+        }
+    }
+
+    @Test
+    void HugeSerpentineMap_fromMap_shouldConnectWholeSnakeWithoutRecursion() {
+        List<GameMapNode> mapNodes = new ArrayList<>(SERPENTINE_X_SIZE * SERPENTINE_Y_SIZE);
+
+        // Every other row is water except for a single gap at alternating ends, so the only
+        // walk from the first to the last row snakes through the whole map
+        for (int y = 0; y < SERPENTINE_Y_SIZE; ++y) {
+            int gapX = y % 4 == 1 ? SERPENTINE_X_SIZE - 1 : 0;
+
+            for (int x = 0; x < SERPENTINE_X_SIZE; ++x) {
+                boolean isWall = y % 2 == 1 && x != gapX;
+                TerrainType terrainType = isWall ? TerrainType.WATER : TerrainType.GRASS;
+
+                mapNodes.add(new GameMapNode(new Position(x, y), terrainType));
+            }
+        }
+
+        GameMap map = new GameMap(mapNodes);
+        ConnectedComponents components = ConnectedComponents.fromMap(map);
+
+        assertEquals(1, components.getComponentCount(), "Snake should be one component");
+        assertTrue(components.isReachable(new Position(0, 0),
+                                          new Position(SERPENTINE_X_SIZE - 1,
+                                                       SERPENTINE_Y_SIZE - 2)),
+                   "Both ends of the snake should be reachable from each other");
+        assertFalse(components.isReachable(new Position(0, 0), new Position(1, 1)),
+                    "Water should not be reachable");
+    }
+}
@@ -0,0 +1,110 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+import static client.map.util.MapGenerationUtils.makeInaccessible;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Path;
+import client.map.Position;
+import client.map.PositionArea;
+import client.map.TerrainType;
+import client.map.util.MapGenerationUtils;
+
+class DStarLitePathFinderTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final int REPLANNING_TURNS = 30;
+
+    @Test
+    void EmptyGrassMap_findPath_shouldOutputStraightPath() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        PositionArea area = map.getArea();
+
+        PathFinder pathFinder = new DStarLitePathFinder(map);
+        Path path = pathFinder.findPath(area.upperLeft(), area.upperRight());
+
+        List<MapDirection> directions = path.intoMapDirections(map);
+
+        assertFalse(directions.isEmpty(), "Resulting path does not contain any vertices");
+        assertTrue(directions.stream().allMatch(MapDirection.EAST::equals),
+                   "Resulting path does not only go straight to the east");
+    }
+
+    @Test
+    void EmptyGrassMap_findPath_shouldStartWalkAtSource() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        PathFinder pathFinder = new DStarLitePathFinder(map);
+        Path path = pathFinder.findPath(new Position(0, 0), new Position(2, 0));
+
+        // Each step between grass nodes costs one move to leave and one move to enter
+        List<MapDirection> expectedDirections = List.of(MapDirection.EAST, MapDirection.EAST,
+                                                        MapDirection.EAST, MapDirection.EAST);
+
+        assertEquals(expectedDirections, path.intoMapDirections(map));
+    }
+
+    @Test
+    void BlockedGrassMap_findPath_shouldFailFindingPath() {
+        PositionArea mapArea = new PositionArea(0, 0, HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        Predicate<Position> predicate = mapArea::isMiddle;
+        Predicate<GameMapNode> isMiddle = mapNode -> predicate.test(mapNode.getPosition());
+
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE,
+                                                              HALF_MAP_Y_SIZE,
+                                                              makeInaccessible,
+                                                              isMiddle);
+
+        PathFinder pathFinder = new DStarLitePathFinder(map);
+
+        assertThrows(PathNotFoundException.class,
+                     () -> pathFinder.findPath(mapArea.upperLeft(), mapArea.upperRight()));
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void RevealedMapNodes_findPath_shouldCostAsMuchAsSearchFromScratch(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        GameMap revealedMap = generateValidHalfMap(seed);
+        List<Position> accessiblePositions = map.getMapNodes().stream()
+                .filter(mapNode -> mapNode.getTerrainType() != TerrainType.WATER)
+                .map(GameMapNode::getPosition)
+                .sorted()
+                .toList();
+
+        Random random = new Random(seed);
+        Position destination = accessiblePositions.getLast();
+        DStarLitePathFinder pathFinder = new DStarLitePathFinder(map);
+
+        for (int turn = 0; turn < REPLANNING_TURNS; ++turn) {
+            Position source = accessiblePositions.get(random.nextInt(accessiblePositions.size()));
+            DStarLitePathFinder scratchPathFinder = new DStarLitePathFinder(map);
+
+            pathFinder.findPath(source, destination);
+            scratchPathFinder.findPath(source, destination);
+
+            assertEquals(scratchPathFinder.getLastTravelCost(), pathFinder.getLastTravelCost(),
+                         "Replanned path from " + source + " in turn " + turn
+                                 + " is not the cheapest");
+
+            Position viewpoint = accessiblePositions.get(
+                    random.nextInt(accessiblePositions.size()));
+            map.update(revealedMap, viewpoint);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+import static client.map.util.MapGenerationUtils.makeInaccessible;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Path;
+import client.map.Position;
+import client.map.PositionArea;
+import client.map.TerrainType;
+import client.map.util.MapGenerationUtils;
+
+class DistanceOracleTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+
+    @Test
+    void EmptyGrassMap_getTravelCost_shouldOutputTwiceTheTaxicabDistance() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        PositionArea area = map.getArea();
+
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        OptionalInt travelCost = distanceOracle.getTravelCost(area.upperLeft(),
+                                                              area.lowerRight());
+
+        int expectedCost = 2 * area.upperLeft().taxicabDistanceTo(area.lowerRight());
+
+        assertEquals(OptionalInt.of(expectedCost), travelCost);
+        assertEquals(expectedCost, distanceOracle.getTravelCost(
+                map.indexOf(area.upperLeft()), map.indexOf(area.lowerRight())));
+    }
+
+    @Test
+    void EmptyGrassMap_getNextDirection_shouldOutputDirectionToDestination() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        PositionArea area = map.getArea();
+
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+
+        assertEquals(MapDirection.EAST,
+                     distanceOracle.getNextDirection(area.upperLeft(), area.upperRight())
+                             .orElseThrow());
+        assertTrue(distanceOracle.getNextDirection(area.upperLeft(), area.upperLeft()).isEmpty());
+    }
+
+    @Test
+    void EmptyGrassMap_findPath_shouldStartWalkAtSource() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        Path path = distanceOracle.findPath(new Position(0, 0), new Position(0, 2));
+
+        // Each step between grass nodes costs one move to leave and one move to enter
+        List<MapDirection> expectedDirections = List.of(MapDirection.SOUTH, MapDirection.SOUTH,
+                                                        MapDirection.SOUTH, MapDirection.SOUTH);
+
+        assertEquals(expectedDirections, path.intoMapDirections(map));
+    }
+
+    @Test
+    void BlockedGrassMap_findPath_shouldFailFindingPath() {
+        PositionArea mapArea = new PositionArea(0, 0, HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        Predicate<Position> predicate = mapArea::isMiddle;
+        Predicate<GameMapNode> isMiddle = mapNode -> predicate.test(mapNode.getPosition());
+
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE,
+                                                              HALF_MAP_Y_SIZE,
+                                                              makeInaccessible,
+                                                              isMiddle);
+
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        Position source = mapArea.upperLeft();
+        Position destination = mapArea.upperRight();
+
+        assertTrue(distanceOracle.getTravelCost(source, destination).isEmpty());
+        assertEquals(DistanceOracle.UNREACHABLE,
+                     distanceOracle.getTravelCost(map.indexOf(source), map.indexOf(destination)));
+        assertThrows(PathNotFoundException.class,
+                     () -> distanceOracle.findPath(source, destination));
+    }
+
+    private static int computeWalkCost(GameMap map, DistanceOracle distanceOracle,
+                                       Position source, Position destination) {
+        int walkCost = 0;
+        Position currentPosition = source;
+
+        while (!currentPosition.equals(destination)) {
+            MapDirection direction = distanceOracle.getNextDirection(currentPosition, destination)
+                    .orElseThrow();
+            Position nextPosition = currentPosition.stepInDirection(direction);
+
+            TerrainType currentTerrain = map.getTerrainTypeAt(map.indexOf(currentPosition));
+            TerrainType nextTerrain = map.getTerrainTypeAt(map.indexOf(nextPosition));
+
+            walkCost += TerrainType.computeTravelCost(currentTerrain, nextTerrain);
+            currentPosition = nextPosition;
+        }
+
+        return walkCost;
+    }
+
+    private static int computeCheapestArrival(GameMap map, DistanceOracle distanceOracle,
+                                              Position source, Position destination) {
+        int destinationIndex = map.indexOf(destination);
+        int cheapestArrival = Integer.MAX_VALUE;
+
+        for (MapDirection direction : MapDirection.values()) {
+            int neighborIndex = map.getReachableNeighborIndex(destinationIndex, direction);
+
+            if (neighborIndex == -1) {
+                continue;
+            }
+
+            Position neighbor = map.getNodeAtIndex(neighborIndex).getPosition();
+            int arrivalCost = distanceOracle.getTravelCost(source, neighbor).orElseThrow()
+                    + TerrainType.computeTravelCost(map.getTerrainTypeAt(neighborIndex),
+                                                    map.getTerrainTypeAt(destinationIndex));
+
+            cheapestArrival = Math.min(cheapestArrival, arrivalCost);
+        }
+
+        return cheapestArrival;
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_getTravelCost_shouldOutputCheapestTravelCost(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        List<Position> accessiblePositions = map.getMapNodes().stream()
+                .filter(mapNode -> mapNode.getTerrainType() != TerrainType.WATER)
+                .map(GameMapNode::getPosition)
+                .toList();
+
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+
+        for (Position source : accessiblePositions) {
+            assertEquals(OptionalInt.of(0), distanceOracle.getTravelCost(source, source));
+
+            for (Position destination : accessiblePositions) {
+                if (source.equals(destination)) {
+                    continue;
+                }
+
+                int travelCost = distanceOracle.getTravelCost(source, destination).orElseThrow();
+
+                assertEquals(computeCheapestArrival(map, distanceOracle, source, destination),
+                             travelCost,
+                             "Cost from " + source + " to " + destination + " is not cheapest");
+                assertEquals(computeWalkCost(map, distanceOracle, source, destination),
+                             travelCost,
+                             "Next directions from " + source + " to " + destination
+                                     + " do not follow the cheapest path");
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import client.map.Bitboard;
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.Position;
+import client.map.TerrainType;
+import client.map.TreasureState;
+
+class EnemyFortBeliefTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final double TOLERANCE = 1e-9;
+
+    private static GameMap generateVisitedMap() {
+        return generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, mapNodes -> {
+            mapNodes.replaceAll((position, mapNode) -> new GameMapNode(
+                    position,
+                    TerrainType.GRASS,
+                    FortState.NO_FORT_PRESENT,
+                    TreasureState.NO_TREASURE_PRESENT));
+        });
+    }
+
+    private static double sumProbabilities(EnemyFortBelief belief, GameMap map) {
+        return map.getPositions().stream()
+                .mapToDouble(belief::getProbability)
+                .sum();
+    }
+
+    @Test
+    void FortStructure_getMostLikelyPosition_shouldOutputEnclosedGrass() {
+        Position fortPosition = new Position(5, 2);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, mapNodes -> {
+            for (Position position : List.of(new Position(5, 1), new Position(6, 2),
+                                             new Position(5, 3))) {
+                mapNodes.put(position, new GameMapNode(position, TerrainType.WATER));
+            }
+        });
+
+        EnemyFortBelief belief = new EnemyFortBelief(map, map, position -> true);
+
+        assertEquals(Optional.of(fortPosition), belief.getMostLikelyPosition());
+        assertEquals(1.0, sumProbabilities(belief, map), TOLERANCE);
+    }
+
+    @Test
+    void PositionHistory_getMostLikelyPosition_shouldOutputFirstSeenPosition() {
+        Position firstPosition = new Position(7, 3);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        EnemyFortBelief belief = new EnemyFortBelief(map, map, position -> true);
+        belief.update(List.of(firstPosition, new Position(7, 2)), Optional.empty());
+
+        assertEquals(Optional.of(firstPosition), belief.getMostLikelyPosition());
+        assertTrue(belief.getProbability(firstPosition)
+                           > belief.getProbability(new Position(0, 0)));
+    }
+
+    @Test
+    void PossibleStartBoard_getMostLikelyPosition_shouldOutputPossiblePosition() {
+        Position firstPosition = new Position(7, 3);
+        Position startPosition = new Position(1, 1);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        Bitboard possibleStartBoard = new Bitboard(map.getIndexBound());
+        possibleStartBoard.set(map.indexOf(startPosition));
+
+        EnemyFortBelief belief = new EnemyFortBelief(map, map, position -> true);
+        belief.update(List.of(firstPosition), Optional.of(possibleStartBoard));
+
+        assertEquals(Optional.of(startPosition), belief.getMostLikelyPosition());
+        assertEquals(0.0, belief.getProbability(firstPosition));
+        assertEquals(1.0, sumProbabilities(belief, map), TOLERANCE);
+    }
+
+    @Test
+    void RuledOutStartBoard_getMostLikelyPosition_shouldIgnoreStartBoard() {
+        Position firstPosition = new Position(7, 3);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        // The only possible start position is visited, so the first position was a wrong one
+        Bitboard possibleStartBoard = new Bitboard(map.getIndexBound());
+        possibleStartBoard.set(map.indexOf(firstPosition));
+        map.update(generateVisitedMap(), firstPosition);
+
+        EnemyFortBelief belief = new EnemyFortBelief(map, map, position -> true);
+        belief.update(List.of(firstPosition), Optional.of(possibleStartBoard));
+
+        Position mostLikelyPosition = belief.getMostLikelyPosition().orElseThrow();
+
+        assertEquals(1, mostLikelyPosition.taxicabDistanceTo(firstPosition));
+        assertEquals(1.0, sumProbabilities(belief, map), TOLERANCE);
+    }
+
+    @Test
+    void VisitedPosition_update_shouldRuleOutPosition() {
+        Position firstPosition = new Position(7, 3);
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        EnemyFortBelief belief = new EnemyFortBelief(map, map, position -> true);
+        belief.update(List.of(firstPosition), Optional.empty());
+
+        // Grass only has itself in sight, so only the first seen position is visited
+        map.update(generateVisitedMap(), firstPosition);
+        belief.update(List.of(firstPosition), Optional.empty());
+
+        Position mostLikelyPosition = belief.getMostLikelyPosition().orElseThrow();
+
+        assertEquals(0.0, belief.getProbability(firstPosition));
+        assertEquals(1, mostLikelyPosition.taxicabDistanceTo(firstPosition));
+        assertEquals(1.0, sumProbabilities(belief, map), TOLERANCE);
+    }
+
+    @Test
+    void UnreachablePositions_getMostLikelyPosition_shouldOutputNothing() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        EnemyFortBelief belief = new EnemyFortBelief(map, map, position -> false);
+
+        assertTrue(belief.getMostLikelyPosition().isEmpty());
+        assertEquals(0.0, belief.getProbability(new Position(0, 0)));
+    }
+}
@@ -0,0 +1,118 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.Position;
+import client.map.util.MapGenerationUtils;
+
+class ExplorationTourPlannerTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final long BUDGET_MILLIS = 50;
+
+    private static boolean isTarget(GameMapNode mapNode) {
+        return mapNode.isLootable() && mapNode.isUnvisited();
+    }
+
+    private static Set<Position> getPositionsInSight(GameMap map, List<Position> positions) {
+        Set<Position> positionsInSight = new HashSet<>();
+
+        for (Position position : positions) {
+            positionsInSight.addAll(map.getPositionsInSight(position));
+        }
+
+        return positionsInSight;
+    }
+
+    private static int computeTravelCost(DistanceOracle distanceOracle, Position start,
+                                         List<Position> positions) {
+        int travelCost = 0;
+        Position previousPosition = start;
+
+        for (Position position : positions) {
+            travelCost += distanceOracle.getTravelCost(previousPosition, position).orElseThrow();
+            previousPosition = position;
+        }
+
+        return travelCost;
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_planTour_shouldHaveAllGrassInSight(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        Position start = map.getPlayerFortPosition().orElseThrow();
+
+        ExplorationTourPlanner planner = new ExplorationTourPlanner(map, distanceOracle,
+                                                                    BUDGET_MILLIS);
+        ExplorationTour tour = planner.planTour(start, map);
+
+        Set<Position> positionsInSight = getPositionsInSight(map, tour.vantagePositions());
+
+        for (GameMapNode mapNode : map.getMapNodes(ExplorationTourPlannerTest::isTarget)) {
+            assertTrue(positionsInSight.contains(mapNode.getPosition()),
+                       () -> mapNode.getPosition() + " is never in sight");
+        }
+
+        assertEquals(computeTravelCost(distanceOracle, start, tour.vantagePositions()),
+                     tour.travelCost());
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_planTour_shouldNotBeWorseThanWithoutImprovement(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        Position start = map.getPlayerFortPosition().orElseThrow();
+
+        ExplorationTour unimprovedTour = new ExplorationTourPlanner(map, distanceOracle, 0)
+                .planTour(start, map);
+        ExplorationTour improvedTour = new ExplorationTourPlanner(map, distanceOracle,
+                                                                  BUDGET_MILLIS)
+                .planTour(start, map);
+
+        assertEquals(Set.copyOf(unimprovedTour.vantagePositions()),
+                     Set.copyOf(improvedTour.vantagePositions()));
+        assertTrue(improvedTour.travelCost() <= unimprovedTour.travelCost());
+    }
+
+    @Test
+    void EmptyGrassMap_planTour_shouldVisitEveryPosition() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        Position start = map.getArea().upperLeft();
+
+        ExplorationTour tour = new ExplorationTourPlanner(map, distanceOracle, BUDGET_MILLIS)
+                .planTour(start, map);
+
+        // Grass only has itself in sight, so every position is its own vantage position
+        assertEquals(HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE, tour.vantagePositions().size());
+        assertEquals(2 * (HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE - 1), tour.travelCost());
+    }
+
+    @Test
+    void EmptyGrassMap_hasTargetInSight_shouldIgnorePositionsOutsideOfTargetMap() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        GameMap targetMap = MapGenerationUtils.generateEmptyGameMap(1, 1);
+        ExplorationTourPlanner planner = new ExplorationTourPlanner(
+                map, DistanceOracle.fromMap(map), BUDGET_MILLIS);
+
+        assertTrue(planner.hasTargetInSight(new Position(0, 0), targetMap));
+        assertFalse(planner.hasTargetInSight(new Position(1, 0), targetMap));
+    }
+}
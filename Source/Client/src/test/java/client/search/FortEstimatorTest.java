@@ -12,7 +12,10 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -83,6 +86,57 @@ class FortEstimatorTest {
                      "Estimated position should match the origin position");
     }
 
+    @Test
+    void GrowingHistory_getPossiblePositions_shouldMatchFreshEstimator() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Player enemy = new Player(enemyName,
+                                  enemyDetails,
+                                  PlayerGameState.MUST_ACT,
+                                  new Position(0, 0),
+                                  false);
+
+        FortEstimator fortEstimator = new FortEstimator(map, enemy);
+
+        for (int x = 1; x < HALF_MAP_X_SIZE; ++x) {
+            enemy.appendPosition(new Position(x, 0));
+
+            int currentTurn = 2 * x + 8;
+
+            assertEquals(new FortEstimator(map, enemy).getPossiblePositions(currentTurn),
+                         fortEstimator.getPossiblePositions(currentTurn),
+                         "Estimator should not depend on previous estimations");
+        }
+    }
+
+    @Test
+    void TurnRange_getPossibleBoard_shouldMatchPossiblePositionsOfEachTurn() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        Player enemy = new Player(enemyName,
+                                  enemyDetails,
+                                  PlayerGameState.MUST_ACT,
+                                  new Position(4, 2),
+                                  false);
+        enemy.appendPosition(new Position(5, 2));
+
+        FortEstimator fortEstimator = new FortEstimator(map, enemy);
+        int minTurn = 10;
+        int maxTurn = 13;
+
+        Set<Position> expectedPositions = new HashSet<>();
+        for (int turn = minTurn; turn <= maxTurn; ++turn) {
+            expectedPositions.addAll(fortEstimator.getPossiblePositions(turn));
+        }
+
+        Set<Position> possiblePositions = fortEstimator.getPossibleBoard(minTurn, maxTurn)
+                .orElseThrow()
+                .stream()
+                .mapToObj(index -> map.getNodeAtIndex(index).getPosition())
+                .collect(Collectors.toSet());
+
+        assertFalse(expectedPositions.isEmpty(), "Enemy should have possible start positions");
+        assertEquals(expectedPositions, possiblePositions);
+    }
+
     private static class BaseCasesArgumentsProvider implements ArgumentsProvider {
 
         static final Position THREE_STEPS = new Position(2, 0);
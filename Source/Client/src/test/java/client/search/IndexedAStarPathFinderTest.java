@@ -0,0 +1,135 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.List;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Path;
+import client.map.Position;
+import client.map.PositionArea;
+import client.map.TerrainType;
+import client.map.util.MapGenerationUtils;
+
+class IndexedAStarPathFinderTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+
+    /**
+     * Walks the {@code directions} from {@code source} the way the server moves a player, i.e.
+     * a step to a neighbor is only taken once its full travel cost has been spent.
+     */
+    private static Position replayWalk(GameMap map, Position source,
+                                       List<MapDirection> directions) {
+        Position position = source;
+        int spentCost = 0;
+
+        for (MapDirection direction : directions) {
+            Position nextPosition = position.stepInDirection(direction);
+            int travelCost = TerrainType.computeTravelCost(
+                    map.getNodeAt(position).orElseThrow().getTerrainType(),
+                    map.getNodeAt(nextPosition).orElseThrow().getTerrainType());
+
+            if (++spentCost == travelCost) {
+                position = nextPosition;
+                spentCost = 0;
+            }
+        }
+
+        assertEquals(0, spentCost, "Walk ends in the middle of a step");
+
+        return position;
+    }
+
+    @Test
+    void EmptyGrassMap_findPath_shouldOutputStraightPath() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        PositionArea area = map.getArea();
+
+        PathFinder pathFinder = new IndexedAStarPathFinder(map);
+        Path path = pathFinder.findPath(area.upperLeft(), area.upperRight());
+
+        // Each step between grass nodes costs one move to leave and one move to enter
+        List<MapDirection> expectedDirections =
+                Collections.nCopies(2 * (HALF_MAP_X_SIZE - 1), MapDirection.EAST);
+
+        assertEquals(expectedDirections, path.intoMapDirections(map));
+    }
+
+    @Test
+    void EmptyGrassMap_findPath_shouldStartWalkAtSource() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        PathFinder pathFinder = new IndexedAStarPathFinder(map);
+        Path path = pathFinder.findPath(new Position(0, 0), new Position(0, 1));
+
+        assertEquals(List.of(MapDirection.SOUTH, MapDirection.SOUTH),
+                     path.intoMapDirections(map));
+    }
+
+    @Test
+    void UnknownPosition_findPath_shouldFailFindingPath() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        PathFinder pathFinder = new IndexedAStarPathFinder(map);
+
+        assertThrows(PathNotFoundException.class,
+                     () -> pathFinder.findPath(new Position(0, 0), new Position(-1, 0)));
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_findPath_shouldWalkFromSourceToDestination(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        List<Position> accessiblePositions = map.getMapNodes().stream()
+                .filter(mapNode -> mapNode.getTerrainType() != TerrainType.WATER)
+                .map(GameMapNode::getPosition)
+                .toList();
+
+        PathFinder pathFinder = new IndexedAStarPathFinder(map);
+
+        for (Position source : accessiblePositions) {
+            for (Position destination : accessiblePositions) {
+                List<MapDirection> directions =
+                        pathFinder.findPath(source, destination).intoMapDirections(map);
+
+                assertEquals(destination, replayWalk(map, source, directions),
+                             "Walk from " + source + " does not arrive at " + destination);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_findPath_shouldMatchAStarPathFinder(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        List<Position> accessiblePositions = map.getMapNodes().stream()
+                .filter(mapNode -> mapNode.getTerrainType() != TerrainType.WATER)
+                .map(GameMapNode::getPosition)
+                .toList();
+
+        PathFinder expectedPathFinder = new AStarPathFinder(map);
+        PathFinder pathFinder = new IndexedAStarPathFinder(map);
+
+        for (Position source : accessiblePositions) {
+            for (Position destination : accessiblePositions) {
+                Path expectedPath = expectedPathFinder.findPath(source, destination);
+                Path path = pathFinder.findPath(source, destination);
+
+                assertEquals(expectedPath.toString(), path.toString(),
+                             "Paths from " + source + " to " + destination + " differ");
+            }
+        }
+    }
+}
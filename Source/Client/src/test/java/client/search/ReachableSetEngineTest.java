@@ -0,0 +1,79 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import client.map.GameMap;
+import client.map.Position;
+import client.map.util.MapGenerationUtils;
+
+class ReachableSetEngineTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final int MAX_BUDGET = 40;
+
+    @Test
+    void GrassLine_getPositionsReachableAt_shouldOutputEveryOtherPosition() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(5, 1);
+        ReachableSetEngine engine = new ReachableSetEngine(map, new Position(4, 0));
+
+        // Every grass step costs 2, so an odd budget can never be spent exactly
+        assertEquals(List.of(new Position(0, 0), new Position(2, 0), new Position(4, 0)),
+                     engine.getPositionsReachableAt(8));
+        assertTrue(engine.getPositionsReachableAt(7).isEmpty());
+        assertEquals(List.of(new Position(4, 0)), engine.getPositionsReachableAt(0));
+        assertTrue(engine.getPositionsReachableAt(-1).isEmpty());
+    }
+
+    @Test
+    void GrassMap_ctor_shouldThrowOnStartOutsideOfMap() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ReachableSetEngine(map, new Position(HALF_MAP_X_SIZE, 0)));
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_getReachableAt_shouldNotDependOnComputationOrder(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        Position start = map.getPlayerFortPosition().orElseThrow();
+
+        ReachableSetEngine extendedEngine = new ReachableSetEngine(map, start);
+
+        for (int budget = 0; budget <= MAX_BUDGET; ++budget) {
+            ReachableSetEngine freshEngine = new ReachableSetEngine(map, start);
+
+            assertEquals(freshEngine.getPositionsReachableAt(budget),
+                         extendedEngine.getPositionsReachableAt(budget));
+        }
+
+        assertEquals(MAX_BUDGET, extendedEngine.getComputedBudget());
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_getReachableAt_shouldContainCheapestDestinations(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        Position start = map.getPlayerFortPosition().orElseThrow();
+
+        ReachableSetEngine engine = new ReachableSetEngine(map, start);
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+
+        for (Position destination : map.getPositions()) {
+            distanceOracle.getTravelCost(start, destination).ifPresent(travelCost -> {
+                assertTrue(engine.getPositionsReachableAt(travelCost).contains(destination),
+                           () -> destination + " should be reachable for " + travelCost);
+            });
+        }
+    }
+}
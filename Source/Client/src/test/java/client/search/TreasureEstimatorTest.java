@@ -0,0 +1,119 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.Position;
+import client.map.TerrainType;
+
+class TreasureEstimatorTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final double TOLERANCE = 1e-9;
+
+    private static TreasureEstimator createEstimator(GameMap map) {
+        return new TreasureEstimator(map, DistanceOracle.fromMap(map));
+    }
+
+    /**
+     * Computes the mean travel cost until the treasure is in sight the straightforward way, by
+     * searching the closest camera for every possible treasure position anew.
+     */
+    private static double computeExpectedTravelCost(GameMap map, DistanceOracle distanceOracle,
+                                                    Position source, Position destination) {
+        List<GameMapNode> treasureNodes = map.getMapNodes().stream()
+                .filter(mapNode -> mapNode.isLootable() && mapNode.isUnvisited())
+                .toList();
+        int travelCost = distanceOracle.getTravelCost(source, destination).orElseThrow();
+
+        return treasureNodes.stream()
+                .mapToInt(treasureNode -> map.getMapNodes().stream()
+                        .filter(GameMapNode::isAccessible)
+                        .map(GameMapNode::getPosition)
+                        .filter(camera -> map.getPositionsInSight(camera)
+                                .contains(treasureNode.getPosition()))
+                        .mapToInt(camera -> distanceOracle.getTravelCost(destination, camera)
+                                .orElseThrow())
+                        .min()
+                        .orElseThrow())
+                .average()
+                .orElseThrow() + travelCost;
+    }
+
+    @Test
+    void GrassLine_estimateBestDestination_shouldPreferCloserDestination() {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, 1);
+        Position source = new Position(0, 0);
+        Position closeDestination = new Position(1, 0);
+        Position farDestination = new Position(HALF_MAP_X_SIZE - 1, 0);
+
+        TreasureEstimate estimate = createEstimator(map)
+                .estimateBestDestination(source, map, List.of(farDestination, closeDestination))
+                .orElseThrow();
+
+        assertEquals(closeDestination, estimate.destination());
+        assertEquals(HALF_MAP_X_SIZE, estimate.treasureCount());
+        // Walking to the destination costs 2, and grass only has itself in sight, so revealing
+        // a treasure at x costs 2 * |x - 1|, which sums up to 2 * 37 over the ten positions
+        assertEquals(2 + 2 * 37.0 / HALF_MAP_X_SIZE, estimate.expectedTravelCost(), TOLERANCE);
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_estimateBestDestination_shouldMatchExactExpectation(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        Position source = map.getPlayerFortPosition().orElseThrow();
+
+        TreasureEstimate estimate = createEstimator(map)
+                .estimateBestDestination(source, map)
+                .orElseThrow();
+
+        assertEquals(computeExpectedTravelCost(map, distanceOracle, source,
+                                               estimate.destination()),
+                     estimate.expectedTravelCost(), TOLERANCE);
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_estimateBestDestination_shouldOutputBestDestination(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        DistanceOracle distanceOracle = DistanceOracle.fromMap(map);
+        Position source = map.getPlayerFortPosition().orElseThrow();
+
+        TreasureEstimate estimate = createEstimator(map)
+                .estimateBestDestination(source, map)
+                .orElseThrow();
+
+        for (Position destination : map.getPositionsByMapNode(GameMapNode::isAccessible)) {
+            assertTrue(estimate.expectedTravelCost() <= computeExpectedTravelCost(
+                    map, distanceOracle, source, destination) + TOLERANCE);
+        }
+    }
+
+    @Test
+    void VisitedMap_estimateBestDestination_shouldOutputNothing() {
+        GameMap map = generateEmptyGameMap(
+                HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE,
+                mapNode -> new GameMapNode(mapNode.getPosition(), TerrainType.GRASS,
+                                           FortState.NO_FORT_PRESENT),
+                mapNode -> true);
+
+        assertTrue(createEstimator(map)
+                           .estimateBestDestination(new Position(0, 0), map)
+                           .isEmpty());
+    }
+}
@@ -0,0 +1,121 @@
+package client.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateValidHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import client.map.Bitboard;
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.Position;
+import client.map.TerrainType;
+import client.map.util.MapGenerationUtils;
+
+class VantagePointSelectorTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+    private static final Position MOUNTAIN_POSITION = new Position(2, 2);
+
+    private static GameMap generateMountainMap() {
+        return MapGenerationUtils.generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE,
+                                                       mapNodes -> mapNodes.put(
+                                                               MOUNTAIN_POSITION,
+                                                               new GameMapNode(
+                                                                       MOUNTAIN_POSITION,
+                                                                       TerrainType.MOUNTAIN)));
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMap_selectVantagePositions_shouldHaveAllGrassInSight(long seed) {
+        GameMap map = generateValidHalfMap(seed);
+        Position source = map.getPlayerFortPosition().orElseThrow();
+
+        VantagePointSelector selector = new VantagePointSelector(map,
+                                                                 DistanceOracle.fromMap(map));
+        List<Position> vantagePositions = selector.selectVantagePositions(source, map);
+
+        Set<Position> positionsInSight = new HashSet<>();
+        vantagePositions.forEach(position -> positionsInSight.addAll(
+                map.getPositionsInSight(position)));
+
+        for (GameMapNode mapNode : map.getMapNodes()) {
+            if (mapNode.isLootable() && mapNode.isUnvisited()) {
+                assertTrue(positionsInSight.contains(mapNode.getPosition()),
+                           () -> mapNode.getPosition() + " is never in sight");
+            }
+        }
+
+        assertEquals(vantagePositions.size(), Set.copyOf(vantagePositions).size());
+    }
+
+    @Test
+    void MountainMap_selectNextVantagePosition_shouldPreferMountain() {
+        GameMap map = generateMountainMap();
+        VantagePointSelector selector = new VantagePointSelector(map,
+                                                                 DistanceOracle.fromMap(map));
+
+        Optional<Position> vantagePosition = selector.selectNextVantagePosition(
+                new Position(0, 2), map);
+
+        assertEquals(Optional.of(MOUNTAIN_POSITION), vantagePosition);
+    }
+
+    @Test
+    void MountainMap_selectNextVantagePositionForTarget_shouldPreferMountainInFront() {
+        GameMap map = generateMountainMap();
+        VantagePointSelector selector = new VantagePointSelector(map,
+                                                                 DistanceOracle.fromMap(map));
+
+        // The grass behind the mountain is seen from the mountain before walking onto it
+        Bitboard targetBoard = new Bitboard(map.getIndexBound());
+        targetBoard.set(map.indexOf(new Position(3, 2)));
+
+        Optional<Position> vantagePosition = selector.selectNextVantagePosition(
+                new Position(0, 2), targetBoard);
+
+        assertEquals(Optional.of(MOUNTAIN_POSITION), vantagePosition);
+    }
+
+    @Test
+    void MountainMap_selectVantagePositions_shouldCoverNeighborhoodOnce() {
+        GameMap map = generateMountainMap();
+        VantagePointSelector selector = new VantagePointSelector(map,
+                                                                 DistanceOracle.fromMap(map));
+
+        List<Position> vantagePositions = selector.selectVantagePositions(MOUNTAIN_POSITION,
+                                                                          map);
+
+        // The mountain reveals its 8 neighbors, every other grass field only itself
+        int expectedCount = 1 + HALF_MAP_X_SIZE * HALF_MAP_Y_SIZE - 9;
+
+        assertEquals(MOUNTAIN_POSITION, vantagePositions.getFirst());
+        assertEquals(expectedCount, vantagePositions.size());
+    }
+
+    @Test
+    void VisitedMap_selectNextVantagePosition_shouldSelectNothing() {
+        GameMap map = MapGenerationUtils.generateEmptyGameMap(
+                HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE,
+                mapNode -> new GameMapNode(mapNode.getPosition(), TerrainType.GRASS,
+                                           FortState.NO_FORT_PRESENT),
+                mapNode -> true);
+        VantagePointSelector selector = new VantagePointSelector(map,
+                                                                 DistanceOracle.fromMap(map));
+
+        assertTrue(selector.selectNextVantagePosition(new Position(0, 0), map).isEmpty());
+        assertTrue(selector.selectVantagePositions(new Position(0, 0), map).isEmpty());
+    }
+}
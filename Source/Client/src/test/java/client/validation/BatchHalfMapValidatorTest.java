@@ -0,0 +1,111 @@
+package client.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import client.generation.MapGenerator;
+import client.map.GameMap;
+
+class BatchHalfMapValidatorTest {
+
+    private static final long STANDARD_START_SEED = 0xDEAD_FACADEL;
+
+    private static final int POOL_PARALLELISM = 4;
+    private static final int CANDIDATE_COUNT = 1000;
+    private static final int MAX_VALID_MAPS = 25;
+
+    private final HalfMapValidator validator = new HalfMapValidator();
+
+    private ForkJoinPool pool;
+    private BatchHalfMapValidator batchValidator;
+
+    private static List<GameMap> generateCandidates(int count) {
+        MapGenerator mapGenerator = new MapGenerator(STANDARD_START_SEED);
+
+        return Stream.generate(mapGenerator::generateMap)
+                .limit(count)
+                .toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(POOL_PARALLELISM);
+        batchValidator = new BatchHalfMapValidator(validator, pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void CandidatePool_validate_shouldMatchSequentialValidation() {
+        List<GameMap> candidates = generateCandidates(CANDIDATE_COUNT);
+
+        BatchValidationReport report = batchValidator.validate(candidates);
+
+        assertEquals(CANDIDATE_COUNT, report.getValidatedCount(),
+                     "Every candidate should have been validated");
+
+        for (int i = 0; i < CANDIDATE_COUNT; ++i) {
+            HalfMapValidationResult result = report.results().get(i);
+
+            assertEquals(i, result.candidateIndex(), "Results should keep the batch's order");
+            assertSame(candidates.get(i), result.map(), "Result should belong to its candidate");
+            assertEquals(validator.findViolatedRules(candidates.get(i)), result.violatedRules(),
+                         "Violated rules should match the sequential validation");
+        }
+    }
+
+    @Test
+    void CandidatePool_validate_shouldStopAfterFirstValidMaps() {
+        List<GameMap> candidates = generateCandidates(CANDIDATE_COUNT);
+        List<Integer> validIndices = IntStream.range(0, CANDIDATE_COUNT)
+                .filter(i -> validator.isValid(candidates.get(i)))
+                .boxed()
+                .toList();
+
+        BatchValidationReport report = batchValidator.validate(candidates, MAX_VALID_MAPS);
+
+        List<GameMap> expectedValidMaps = validIndices.stream()
+                .limit(MAX_VALID_MAPS)
+                .map(candidates::get)
+                .toList();
+
+        assertEquals(expectedValidMaps, report.getValidMaps(),
+                     "The first valid maps of the batch should be kept");
+        assertEquals(validIndices.get(MAX_VALID_MAPS - 1) + 1, report.getValidatedCount(),
+                     "No candidate after the last requested valid map should be reported");
+    }
+
+    @Test
+    @Timeout(5)
+    void InfiniteCandidateStream_validate_shouldStopAfterRequestedValidMaps() {
+        MapGenerator mapGenerator = new MapGenerator(STANDARD_START_SEED);
+
+        BatchValidationReport report = batchValidator.validate(
+                Stream.generate(mapGenerator::generateMap), MAX_VALID_MAPS);
+
+        assertEquals(MAX_VALID_MAPS, report.getValidMaps().size(),
+                     "Validation should stop after the requested amount of valid maps");
+        assertTrue(report.getValidMaps().stream().allMatch(validator::isValid),
+                   "Reported valid maps should be valid");
+    }
+
+    @Test
+    void NoValidMapRequested_validate_shouldThrow() {
+        List<GameMap> candidates = generateCandidates(1);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> batchValidator.validate(candidates, 0));
+    }
+}
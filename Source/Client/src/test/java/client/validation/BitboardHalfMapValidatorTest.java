@@ -0,0 +1,184 @@
+package client.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+import static client.map.util.MapGenerationUtils.generateHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import client.generation.MapGenerator;
+import client.map.FortState;
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.map.PositionArea;
+import client.map.TerrainType;
+import client.map.TreasureState;
+
+class BitboardHalfMapValidatorTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+
+    private static final int RANDOM_MAP_COUNT = 2000;
+
+    private static final int WATER_COLUMN_X = 2;
+    private static final int MOUNTAIN_COLUMN_X = 7;
+
+    private static final TerrainType[] TERRAIN_TYPES = TerrainType.values();
+
+    private final BitboardHalfMapValidator bitboardValidator = new BitboardHalfMapValidator();
+
+    private static FortState pickFortState(Random random) {
+        return switch (random.nextInt(60)) {
+            case 0 -> FortState.PLAYER_FORT_PRESENT;
+            case 1 -> FortState.ENEMY_FORT_PRESENT;
+            default -> FortState.UNKNOWN;
+        };
+    }
+
+    /**
+     * Generates a full half map with random terrain, where each field rarely has a fort or a
+     * treasure, such that every rule is violated by some of the generated maps.
+     */
+    private static GameMap generateRandomMap(Random random) {
+        PositionArea area = new PositionArea(0, 0, HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE);
+        List<GameMapNode> mapNodes = new ArrayList<>();
+        int waterWeight = random.nextInt(1, 6);
+
+        for (Position position : area.intoStream().toList()) {
+            TerrainType terrainType = random.nextInt(20) < waterWeight
+                    ? TerrainType.WATER
+                    : TERRAIN_TYPES[random.nextInt(2)];
+            TreasureState treasureState = random.nextInt(200) == 0
+                    ? TreasureState.PLAYER_TREASURE_PRESENT
+                    : TreasureState.UNKNOWN;
+
+            mapNodes.add(new GameMapNode(position, terrainType, pickFortState(random),
+                                         treasureState));
+        }
+
+        return new GameMap(mapNodes);
+    }
+
+    /**
+     * Generates a half map with the fort in the east, a column of mountains, and a column of
+     * water, which cuts off the two westmost columns unless it has a gap at {@code gapY}. Some
+     * more water three columns further east makes up the minimum amount of water.
+     */
+    private static GameMap generateWaterColumnMap(int gapY) {
+        GameMap map = generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, MapDirection.EAST);
+        List<GameMapNode> mapNodes = new ArrayList<>(map.getMapNodes());
+
+        mapNodes.replaceAll(mapNode -> {
+            Position position = mapNode.getPosition();
+
+            if (position.x() == MOUNTAIN_COLUMN_X) {
+                return new GameMapNode(position, TerrainType.MOUNTAIN);
+            } else if ((position.x() == WATER_COLUMN_X && position.y() != gapY)
+                    || (position.x() == WATER_COLUMN_X + 3 && position.y() % 2 == 0)) {
+                return new GameMapNode(position, TerrainType.WATER);
+            }
+
+            return mapNode;
+        });
+
+        return new GameMap(mapNodes);
+    }
+
+    private void assertRulesAgree(GameMap map) {
+        HalfMapBitboard board = HalfMapBitboard.fromMap(map).orElseThrow();
+
+        assertEquals(new GameMapDimensionValidator().isSatisfiedBy(map),
+                     bitboardValidator.isDimensionSatisfied(board),
+                     "Dimension rules should agree");
+        assertEquals(new GameMapTreasurePlacementValidator().isSatisfiedBy(map),
+                     bitboardValidator.isTreasurePlacementSatisfied(board),
+                     "Treasure placement rules should agree");
+        assertEquals(new GameMapTerrainDistributionValidator().isSatisfiedBy(map),
+                     bitboardValidator.isTerrainDistributionSatisfied(board),
+                     "Terrain distribution rules should agree");
+        assertEquals(new GameMapBorderAccessibilityValidator().isSatisfiedBy(map),
+                     bitboardValidator.isBorderAccessibilitySatisfied(board),
+                     "Border accessibility rules should agree");
+        assertEquals(new GameMapFortPlacementValidator().isSatisfiedBy(map),
+                     bitboardValidator.isFortPlacementSatisfied(board),
+                     "Fort placement rules should agree");
+        assertEquals(new GameMapTerrainReachabilityValidator().isSatisfiedBy(map),
+                     bitboardValidator.isTerrainReachabilitySatisfied(board),
+                     "Terrain reachability rules should agree");
+        assertEquals(new HalfMapValidator().isValid(map), bitboardValidator.isValid(board),
+                     "Validators should agree on the whole map");
+    }
+
+    @Test
+    void WaterColumnMap_isValid_shouldOnlyViolateReachability() {
+        HalfMapBitboard board = HalfMapBitboard.fromMap(generateWaterColumnMap(-1))
+                .orElseThrow();
+
+        assertTrue(bitboardValidator.isDimensionSatisfied(board));
+        assertTrue(bitboardValidator.isTreasurePlacementSatisfied(board));
+        assertTrue(bitboardValidator.isTerrainDistributionSatisfied(board));
+        assertTrue(bitboardValidator.isBorderAccessibilitySatisfied(board));
+        assertTrue(bitboardValidator.isFortPlacementSatisfied(board));
+        assertFalse(bitboardValidator.isTerrainReachabilitySatisfied(board),
+                    "The two columns behind the water should be unreachable");
+        assertFalse(bitboardValidator.isValid(board));
+    }
+
+    @Test
+    void WaterColumnMapWithGap_isValid_shouldBeValid() {
+        assertTrue(bitboardValidator.isValid(generateWaterColumnMap(HALF_MAP_Y_SIZE / 2)));
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void RandomHalfMaps_isValid_shouldAgreeWithObjectBasedRules(long seed) {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < RANDOM_MAP_COUNT; ++i) {
+            assertRulesAgree(generateRandomMap(random));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMaps_isValid_shouldAgreeWithObjectBasedRules(long seed) {
+        MapGenerator mapGenerator = new MapGenerator(seed);
+
+        for (int i = 0; i < RANDOM_MAP_COUNT; ++i) {
+            assertRulesAgree(mapGenerator.generateMap());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 42L})
+    void HalfMapsWithMissingFields_isValid_shouldBeInvalid(long seed) {
+        GameMap map = generateHalfMap(seed);
+        List<GameMapNode> mapNodes = new ArrayList<>(map.getMapNodes());
+        mapNodes.remove(new Random(seed).nextInt(mapNodes.size()));
+
+        assertFalse(bitboardValidator.isValid(new GameMap(mapNodes)),
+                    "Half map with a missing field should be invalid");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 42L})
+    void HalfMapBitboard_intoMap_shouldRoundTrip(long seed) {
+        HalfMapBitboard board = HalfMapBitboard.fromMap(generateRandomMap(new Random(seed)))
+                .orElseThrow();
+
+        assertEquals(board, HalfMapBitboard.fromMap(board.intoMap()).orElseThrow(),
+                     "Decoding and encoding again should yield the same bitboard");
+    }
+}
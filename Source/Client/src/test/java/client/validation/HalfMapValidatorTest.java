@@ -0,0 +1,33 @@
+package client.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import client.generation.MapGenerator;
+import client.map.GameMap;
+
+class HalfMapValidatorTest {
+
+    private static final int GENERATED_MAP_COUNT = 500;
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void GeneratedHalfMaps_isValid_shouldMatchDetailedValidation(long seed) {
+        MapGenerator mapGenerator = new MapGenerator(seed);
+        HalfMapValidator validator = new HalfMapValidator();
+
+        for (int i = 0; i < GENERATED_MAP_COUNT; ++i) {
+            GameMap map = mapGenerator.generateMap();
+            Notification<GameMapValidationRule> validationErrors = validator.validate(map);
+
+            assertEquals(!validationErrors.hasEntries(), validator.isValid(map),
+                         "Fast path disagrees with the detailed validation:\n" + validationErrors);
+            assertEquals(validationErrors.getCallees(), validator.findViolatedRules(map),
+                         "Violated rules should match the rules of the detailed validation");
+        }
+    }
+}
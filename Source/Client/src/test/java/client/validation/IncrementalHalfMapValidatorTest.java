@@ -0,0 +1,133 @@
+package client.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static client.map.util.MapGenerationUtils.SEEDS;
+import static client.map.util.MapGenerationUtils.generateEmptyGameMap;
+import static client.map.util.MapGenerationUtils.generateHalfMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import client.map.GameMap;
+import client.map.GameMapNode;
+import client.map.MapDirection;
+import client.map.Position;
+import client.map.TerrainType;
+
+class IncrementalHalfMapValidatorTest {
+
+    private static final int HALF_MAP_X_SIZE = 10;
+    private static final int HALF_MAP_Y_SIZE = 5;
+
+    private static final int TERRAIN_CHANGE_COUNT = 2000;
+
+    private static final TerrainType[] TERRAIN_TYPES = TerrainType.values();
+
+    private static IncrementalHalfMapValidator makeGrassMapValidator() {
+        return new IncrementalHalfMapValidator(
+                generateEmptyGameMap(HALF_MAP_X_SIZE, HALF_MAP_Y_SIZE, MapDirection.EAST));
+    }
+
+    @Test
+    void WaterColumn_countViolations_shouldCountUnreachableFields() {
+        IncrementalHalfMapValidator validator = makeGrassMapValidator();
+
+        for (int y = 0; y < HALF_MAP_Y_SIZE; ++y) {
+            validator.changeTerrain(new Position(2, y), TerrainType.WATER);
+        }
+
+        // The two columns behind the water cannot be reached from the fort in the east
+        assertEquals(2 * HALF_MAP_Y_SIZE, validator.countViolations());
+        assertTrue(validator.isPartOfViolation(new Position(2, 0)));
+        assertFalse(validator.isPartOfViolation(new Position(5, 0)));
+
+        validator.changeTerrain(new Position(2, 2), TerrainType.GRASS);
+
+        assertEquals(0, validator.countViolations());
+        assertFalse(validator.isPartOfViolation(new Position(2, 0)));
+    }
+
+    @Test
+    void WaterOnWestBorder_countViolations_shouldCountMissingAccessibleFields() {
+        IncrementalHalfMapValidator validator = makeGrassMapValidator();
+
+        for (int y = 0; y < 3; ++y) {
+            validator.changeTerrain(new Position(0, y), TerrainType.WATER);
+        }
+
+        // 51 % of the five fields on the west border means three accessible fields, not two
+        assertEquals(1, validator.countViolations());
+        assertTrue(validator.isPartOfViolation(new Position(0, 4)));
+        assertFalse(validator.isPartOfViolation(new Position(1, 0)));
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void RandomTerrainChanges_isValid_shouldMatchFullValidation(long seed) {
+        GameMap map = generateHalfMap(seed);
+        HalfMapValidator validator = new HalfMapValidator();
+        IncrementalHalfMapValidator incrementalValidator = new IncrementalHalfMapValidator(map);
+
+        Map<Position, GameMapNode> mapNodes = new HashMap<>();
+        map.getMapNodes().forEach(mapNode -> mapNodes.put(mapNode.getPosition(), mapNode));
+        List<Position> positions = List.copyOf(mapNodes.keySet());
+
+        Random random = new Random(seed);
+
+        for (int i = 0; i < TERRAIN_CHANGE_COUNT; ++i) {
+            Position position = positions.get(random.nextInt(positions.size()));
+            TerrainType terrainType = TERRAIN_TYPES[random.nextInt(TERRAIN_TYPES.length)];
+            GameMapNode mapNode = mapNodes.get(position);
+
+            mapNodes.put(position, new GameMapNode(position, terrainType, mapNode.getFortState(),
+                                                   mapNode.getTreasureState()));
+            incrementalValidator.changeTerrain(position, terrainType);
+
+            GameMap changedMap = new GameMap(mapNodes.values());
+
+            assertEquals(validator.isValid(changedMap), incrementalValidator.isValid(),
+                         "Incremental validation disagrees after change " + i + ":\n"
+                                 + validator.validate(changedMap));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(SEEDS)
+    void RandomTerrainChanges_countViolations_shouldMatchRepairableRules(long seed) {
+        GameMap map = generateHalfMap(seed);
+        GameMapValidationRule borderValidator = new GameMapBorderAccessibilityValidator();
+        GameMapValidationRule reachabilityValidator = new GameMapTerrainReachabilityValidator();
+        IncrementalHalfMapValidator incrementalValidator = new IncrementalHalfMapValidator(map);
+
+        Map<Position, GameMapNode> mapNodes = new HashMap<>();
+        map.getMapNodes().forEach(mapNode -> mapNodes.put(mapNode.getPosition(), mapNode));
+        List<Position> positions = List.copyOf(mapNodes.keySet());
+
+        Random random = new Random(seed);
+
+        for (int i = 0; i < TERRAIN_CHANGE_COUNT; ++i) {
+            Position position = positions.get(random.nextInt(positions.size()));
+            TerrainType terrainType = TERRAIN_TYPES[random.nextInt(TERRAIN_TYPES.length)];
+            GameMapNode mapNode = mapNodes.get(position);
+
+            mapNodes.put(position, new GameMapNode(position, terrainType, mapNode.getFortState(),
+                                                   mapNode.getTreasureState()));
+            incrementalValidator.changeTerrain(position, terrainType);
+
+            GameMap changedMap = new GameMap(mapNodes.values());
+            boolean areSatisfied = borderValidator.isSatisfiedBy(changedMap)
+                    && reachabilityValidator.isSatisfiedBy(changedMap);
+
+            assertEquals(areSatisfied, incrementalValidator.countViolations() == 0,
+                         "Violation count disagrees after change " + i);
+            assertEquals(terrainType, incrementalValidator.getTerrainTypeAt(position));
+        }
+    }
+}
@@ -17,6 +17,8 @@ public class NotificationAssertUtils {
 
         assertTrue(validationErrors.hasEntries(),
                    "Validator should have caught at least one business rule violation");
+        assertFalse(validator.isSatisfiedBy(map),
+                    "Validator's fast path should have caught the business rule violation");
 
     }
 
@@ -28,6 +30,8 @@ public class NotificationAssertUtils {
 
         assertFalse(validationErrors.hasEntries(),
                     "Validator should have caught no business rule violation");
+        assertTrue(validator.isSatisfiedBy(map),
+                   "Validator's fast path should have caught no business rule violation");
 
     }
 }